@@ -76,6 +76,9 @@ public final class CommonConfig implements Config {
     @Setting("phase-tracker")
     public final PhaseTrackerCategory phaseTracker = new PhaseTrackerCategory();
 
+    @Setting
+    public final SchedulerCategory scheduler = new SchedulerCategory();
+
     @Setting("teleport-helper")
     @Comment("Blocks to blacklist for safe teleportation.")
     public final TeleportHelperCategory teleportHelper = new TeleportHelperCategory();
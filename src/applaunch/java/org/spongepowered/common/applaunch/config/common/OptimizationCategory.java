@@ -55,4 +55,23 @@ public final class OptimizationCategory {
             + "to be generated on demand. This is a very safe optimization and\n"
             + "should usually remain enabled.")
     public boolean enableLazyDFU = true;
+
+    @Setting("compiled-event-dispatch")
+    @Comment("If 'true', the listeners registered for each event type are compiled\n"
+            + "into a single generated dispatcher. Listener filters are evaluated\n"
+            + "before any cause frame or phase is entered, and consecutive listeners\n"
+            + "of the same plugin share a single cause frame. If a plugin relies on\n"
+            + "each of its listeners having a separate cause frame, disable this.")
+    public boolean compiledEventDispatch = false;
+
+    @Setting("bulk-volume-stream-application")
+    @Comment("If 'true', block volume streams applied to a server world write\n"
+            + "directly into chunk storage. Light checks are queued per section once\n"
+            + "the application completes, and clients receive one update per touched\n"
+            + "section. No block transactions are captured, so no ChangeBlockEvents\n"
+            + "are fired for these changes, and neighbor notifications and block\n"
+            + "physics are skipped regardless of the requested BlockChangeFlag.\n"
+            + "Enable this if plugins apply very large edits and do not rely on\n"
+            + "block events for them.")
+    public boolean bulkVolumeStreamApplication = false;
 }
@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public final class SchedulerCategory {
+
+    @Setting("sync-tick-budget")
+    @Comment("The maximum time, in milliseconds, that synchronous scheduled tasks \n"
+             + "may run for in a single tick. Once the budget is spent, the remaining \n"
+             + "due tasks are carried over to the next tick, alternating between the \n"
+             + "plugins that own them so that no single plugin can starve the others. \n"
+             + "At least one due task is always run per tick. Set to '0' to run every \n"
+             + "due task in the tick it is due.")
+    public double syncTickBudget = 0;
+
+    @Setting("async-virtual-threads")
+    @Comment("If 'true', asynchronous scheduled tasks are run on virtual threads \n"
+             + "instead of a pool of platform threads. This greatly reduces the \n"
+             + "amount of threads created when plugins perform blocking work, such \n"
+             + "as database queries or web requests, in asynchronous tasks.")
+    public boolean asyncVirtualThreads = false;
+
+    @Setting("async-virtual-thread-carriers")
+    @Comment("The amount of platform threads that carry virtual threads. Set to \n"
+             + "'0' to use the number of available processors. The JVM may still add \n"
+             + "carriers while virtual threads are pinned. This applies to every \n"
+             + "virtual thread in the process, not only those of the scheduler, and \n"
+             + "only if no virtual thread was started before the scheduler and the \n"
+             + "JVM was not started with 'jdk.virtualThreadScheduler' properties.")
+    public int asyncVirtualThreadCarriers = 0;
+
+    @Setting("log-pinned-virtual-threads")
+    @Comment("If 'true', a warning is logged whenever a virtual thread blocks while \n"
+             + "it is pinned to its carrier thread, usually because a task is holding \n"
+             + "a monitor (a 'synchronized' block) while performing blocking I/O. \n"
+             + "Pinned virtual threads reduce the amount of carrier threads available.")
+    public boolean logPinnedVirtualThreads = true;
+}
@@ -39,18 +39,26 @@
 import org.spongepowered.common.bridge.adventure.ComponentBridge;
 import org.spongepowered.common.util.LocaleCache;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 
 public class AdventureTextComponent implements net.minecraft.network.chat.Component {
+    // Enough for the locales of a typical server, broadcasts to more evict the oldest
+    private static final int MAX_CACHED_LOCALES = 8;
+    private static final Rendered[] NO_RENDERED = new Rendered[0];
+    private static final Encoded[] NO_ENCODED = new Encoded[0];
+
     private net.minecraft.network.chat.@MonotonicNonNull Component converted;
     private @Nullable Locale deepConvertedLocalized;
     private final net.kyori.adventure.text.Component wrapped;
     private final @Nullable ComponentRenderer<Locale> renderer;
-    private @Nullable Locale lastLocale;
-    private @Nullable AdventureTextComponent lastRendered;
+    // Copy-on-write, most recent first. Racing writers may drop each other's
+    // entries, which only costs rendering or encoding again.
+    private volatile Rendered[] rendered = AdventureTextComponent.NO_RENDERED;
+    private volatile Encoded[] encoded = AdventureTextComponent.NO_ENCODED;
 
     public AdventureTextComponent(final net.kyori.adventure.text.Component wrapped, final @Nullable ComponentRenderer<Locale> renderer) {
         this.wrapped = wrapped;
@@ -65,12 +73,47 @@ public net.kyori.adventure.text.Component wrapped() {
         return this.wrapped;
     }
 
-    public synchronized AdventureTextComponent rendered(final Locale locale) {
-        if (Objects.equals(locale, this.lastLocale)) {
-            return this.lastRendered;
+    public AdventureTextComponent rendered(final Locale locale) {
+        if (this.renderer == null) {
+            return this;
+        }
+        final Rendered[] cached = this.rendered;
+        for (final Rendered entry : cached) {
+            if (Objects.equals(entry.locale(), locale)) {
+                return entry.component();
+            }
+        }
+        final AdventureTextComponent component = new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null);
+        this.rendered = AdventureTextComponent.prepend(cached, new Rendered(locale, component));
+        return component;
+    }
+
+    /**
+     * Gets the encoded system chat packet carrying this component, if it was
+     * already encoded for the given locale.
+     *
+     * @param locale The locale of the receiving connection
+     * @param overlay Whether the message is shown above the hotbar
+     * @return The encoded packet, or {@code null}
+     */
+    public byte @Nullable [] encodedSystemChat(final Locale locale, final boolean overlay) {
+        for (final Encoded entry : this.encoded) {
+            if (entry.overlay() == overlay && entry.locale().equals(locale)) {
+                return entry.bytes();
+            }
         }
-        this.lastLocale = locale;
-        return this.lastRendered = this.renderer == null ? this : new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null);
+        return null;
+    }
+
+    public void cacheEncodedSystemChat(final Locale locale, final boolean overlay, final byte[] bytes) {
+        this.encoded = AdventureTextComponent.prepend(this.encoded, new Encoded(locale, overlay, bytes));
+    }
+
+    private static <T> T[] prepend(final T[] entries, final T entry) {
+        final T[] updated = Arrays.copyOf(entries, Math.min(entries.length + 1, AdventureTextComponent.MAX_CACHED_LOCALES));
+        System.arraycopy(entries, 0, updated, 1, updated.length - 1);
+        updated[0] = entry;
+        return updated;
     }
 
     net.minecraft.network.chat.Component deepConverted() {
@@ -153,4 +196,10 @@ public <T> Optional<T> visit(final ContentConsumer<T> visitor) {
         return this.deepConverted().visit(visitor);
     }
 
+    private record Rendered(Locale locale, AdventureTextComponent component) {
+    }
+
+    private record Encoded(Locale locale, boolean overlay, byte[] bytes) {
+    }
+
 }
@@ -25,6 +25,8 @@
 package org.spongepowered.common.bridge.data;
 
 import com.google.common.collect.Multimap;
+import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.Key;
@@ -61,4 +63,16 @@ public interface SpongeDataHolderBridge {
     void bridge$addFailedData(DataQuery nameSpace, DataView keyedData);
 
     boolean brigde$isDeserializing();
+
+    /**
+     * Gets whether the given compound is the one produced by the last
+     * serialization of this holder's custom data and nothing but the
+     * manipulator's tracked keys changed since.
+     *
+     * @param compound The current compound, if any
+     * @return True if the compound can be updated incrementally
+     */
+    boolean bridge$isDataSynced(@Nullable CompoundTag compound);
+
+    void bridge$markDataSynced(@Nullable CompoundTag compound);
 }
@@ -69,6 +69,7 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.general.CommandPhaseContext;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
+import org.spongepowered.common.timings.SpongeTimings;
 import org.spongepowered.common.util.CommandUtil;
 
 import java.util.ArrayList;
@@ -159,7 +160,19 @@ public int execute(final ParseResults<CommandSourceStack> parse) throws CommandS
                     context.notifier(player.getUUID());
                 }
                 context.buildAndSwitch();
-                final int result = this.execute0(parse, fullCommand);
+                final long start = SpongeTimings.start();
+                final int result;
+                try {
+                    result = this.execute0(parse, fullCommand);
+                } finally {
+                    // Commands that fail, including on a syntax error, are timed too
+                    if (mapping != null && SpongeTimings.isEnabled()) {
+                        final String name = "Command: /" + mapping.primaryAlias();
+                        mapping.plugin().map(plugin -> SpongeTimings.of(plugin, name))
+                                .orElseGet(() -> SpongeTimings.of(SpongeTimings.MINECRAFT_GROUP, name))
+                                .stop(start);
+                    }
+                }
                 SpongeCommon.post(SpongeEventFactory.createExecuteCommandEventPost(cause.cause(), originalArgs, args, originalCommand, baseCommand, cause,
                         CommandResult.builder().result(result).build()));
                 return result;
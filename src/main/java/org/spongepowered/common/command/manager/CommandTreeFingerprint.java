@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.manager;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * The outcome of every requirement check made while building the command
+ * tree sent to a client, in the order they were made.
+ *
+ * <p>The tree a client receives depends only on these outcomes, so two
+ * sources with equal fingerprints receive identical trees, whatever the
+ * permissions are that led to them.</p>
+ */
+public final class CommandTreeFingerprint {
+
+    private final BitSet outcomes = new BitSet();
+    private int length;
+
+    /**
+     * Appends the outcome of a requirement check.
+     *
+     * @param outcome The outcome
+     * @return The outcome, for chaining into conditions
+     */
+    public boolean append(final boolean outcome) {
+        if (outcome) {
+            this.outcomes.set(this.length);
+        }
+        this.length++;
+        return outcome;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof final CommandTreeFingerprint that)) {
+            return false;
+        }
+        return this.length == that.length && this.outcomes.equals(that.outcomes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.length + this.outcomes.hashCode();
+    }
+
+}
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.command.manager;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
@@ -47,6 +49,7 @@
 import net.kyori.adventure.util.ComponentMessageThrowable;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
 import net.minecraft.server.MinecraftServer;
 import org.apache.logging.log4j.Level;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -79,6 +82,8 @@
 import org.spongepowered.common.bridge.commands.CommandsBridge;
 import org.spongepowered.common.command.SpongeCommandCompletion;
 import org.spongepowered.common.command.brigadier.dispatcher.SpongeCommandDispatcher;
+import org.spongepowered.common.command.brigadier.dispatcher.SpongeNodePermissionCache;
+import org.spongepowered.common.command.brigadier.tree.SpongeNode;
 import org.spongepowered.common.command.exception.SpongeCommandResultException;
 import org.spongepowered.common.command.exception.SpongeCommandSyntaxException;
 import org.spongepowered.common.command.registrar.BrigadierCommandRegistrar;
@@ -102,6 +107,7 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -125,6 +131,11 @@ public abstract class SpongeCommandManager implements CommandManager.Mutable {
     private final LinkedHashMap<SpongeCommandMapping, RootCommandTreeNode> mappingToSuggestionNodes = new LinkedHashMap<>();
     private final Map<Class<?>, CommandRegistrar<?>> knownRegistrars = new ConcurrentHashMap<>();
     private BrigadierCommandRegistrar brigadierRegistrar;
+    // The tree is fully determined by the requirement outcomes, so permission
+    // changes need no invalidation - they simply produce another fingerprint.
+    private final Cache<CommandTreeFingerprint, ClientboundCommandsPacket> commandTreePackets = Caffeine.newBuilder()
+            .maximumSize(256)
+            .build();
 
     public static SpongeCommandManager get(final MinecraftServer server) {
         return ((CommandsBridge) server.getCommands()).bridge$commandManager();
@@ -264,6 +275,7 @@ public BrigadierCommandRegistrar getBrigadierRegistrar() {
         if (parameterTree instanceof RootCommandTreeNode) {
             this.mappingToSuggestionNodes.put(mapping, (RootCommandTreeNode) parameterTree);
         }
+        this.commandTreePackets.invalidateAll();
         return mapping;
     }
 
@@ -522,6 +534,47 @@ public Collection<CommandNode<SharedSuggestionProvider>> getNonBrigadierSuggesti
         return suggestions;
     }
 
+    /**
+     * Computes the fingerprint of the command tree that would be sent to the
+     * given source, by making the same requirement checks as building it.
+     *
+     * @param source The source the tree is built for
+     * @return The fingerprint
+     */
+    public CommandTreeFingerprint commandTreeFingerprint(final CommandSourceStack source) {
+        final CommandTreeFingerprint fingerprint = new CommandTreeFingerprint();
+        final SpongeCommandDispatcher dispatcher = this.getDispatcher();
+        this.appendToFingerprint(dispatcher, dispatcher.getRoot(), true, source, fingerprint, Collections.newSetFromMap(new IdentityHashMap<>()));
+        for (final RootCommandTreeNode node : this.mappingToSuggestionNodes.values()) {
+            node.appendToFingerprint((CommandCause) source, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    private void appendToFingerprint(
+            final SpongeCommandDispatcher dispatcher,
+            final CommandNode<CommandSourceStack> parent,
+            final boolean isRoot,
+            final CommandSourceStack source,
+            final CommandTreeFingerprint fingerprint,
+            final Set<CommandNode<CommandSourceStack>> visited) {
+        final Collection<CommandNode<CommandSourceStack>> children =
+                parent instanceof SpongeNode ? ((SpongeNode) parent).getChildrenForSuggestions() : parent.getChildren();
+        for (final CommandNode<CommandSourceStack> child : children) {
+            if (visited.add(child) && fingerprint.append(SpongeNodePermissionCache.canUse(isRoot, dispatcher, child, source))) {
+                this.appendToFingerprint(dispatcher, child, false, source, fingerprint, visited);
+            }
+        }
+    }
+
+    public @Nullable ClientboundCommandsPacket cachedCommandTree(final CommandTreeFingerprint fingerprint) {
+        return this.commandTreePackets.getIfPresent(fingerprint);
+    }
+
+    public void cacheCommandTree(final CommandTreeFingerprint fingerprint, final ClientboundCommandsPacket packet) {
+        this.commandTreePackets.put(fingerprint, packet);
+    }
+
     public Collection<String> getAliasesThatStartWithForCause(final CommandCause cause, final String startingText) {
         final String toCompare = startingText.toLowerCase(Locale.ROOT);
         final List<String> aliases = new ArrayList<>();
@@ -51,6 +51,9 @@
 
 public final class SpongeUserValueParameter extends ResourceKeyedArgumentValueParser<UUID> {
 
+    // The client only shows a handful of suggestions, so stop the lookup early
+    private static final int MAX_COMPLETIONS = 100;
+
     private final EntityArgument selectorArgumentType = EntityArgument.player();
 
     public SpongeUserValueParameter(final ResourceKey key) {
@@ -62,6 +65,7 @@ public List<CommandCompletion> complete(final @NonNull CommandCause cause, final
         return Sponge.server().userManager().streamOfMatches(currentInput).filter(GameProfile::hasName)
                 .map(x -> x.name().map(SpongeCommandCompletion::new).orElse(null))
                 .filter(Objects::nonNull)
+                .limit(SpongeUserValueParameter.MAX_COMPLETIONS)
                 .collect(Collectors.toList());
     }
 
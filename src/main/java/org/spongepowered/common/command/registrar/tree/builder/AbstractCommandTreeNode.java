@@ -36,10 +36,12 @@
 import org.spongepowered.api.command.registrar.tree.CommandCompletionProvider;
 import org.spongepowered.api.command.registrar.tree.CommandTreeNode;
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
+import org.spongepowered.common.command.manager.CommandTreeFingerprint;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 public abstract class AbstractCommandTreeNode<T extends CommandTreeNode<@NonNull T>, O extends CommandNode<SharedSuggestionProvider>>
@@ -157,6 +159,23 @@ protected final void addChildNodesToTree(
         });
     }
 
+    /**
+     * Appends the requirement outcomes that
+     * {@link #addChildNodesToTree(CommandCause, CommandNode, Map, Map)} would
+     * see for the given cause, without building any nodes.
+     */
+    protected final void addChildRequirementsToFingerprint(
+            final CommandCause cause,
+            final CommandTreeFingerprint fingerprint,
+            final Set<AbstractCommandTreeNode<?, ?>> visited) {
+        this.getChildren().forEach((key, value) -> {
+            // redirecting nodes have no children, so there is nothing to skip for them
+            if (fingerprint.append(value.requirement.test(cause)) && visited.add(value)) {
+                value.addChildRequirementsToFingerprint(cause, fingerprint, visited);
+            }
+        });
+    }
+
     protected final Predicate<CommandCause> getRequirement() {
         return this.requirement;
     }
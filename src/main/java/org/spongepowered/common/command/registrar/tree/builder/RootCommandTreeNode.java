@@ -33,7 +33,9 @@
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.command.registrar.tree.CommandTreeNode;
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
+import org.spongepowered.common.command.manager.CommandTreeFingerprint;
 
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -66,6 +68,12 @@ public final class RootCommandTreeNode extends AbstractCommandTreeNode<CommandTr
         return null;
     }
 
+    public void appendToFingerprint(final CommandCause cause, final CommandTreeFingerprint fingerprint) {
+        if (fingerprint.append(this.getRequirement().test(cause))) {
+            this.addChildRequirementsToFingerprint(cause, fingerprint, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    }
+
     @Override
     protected RootCommandNode<SharedSuggestionProvider> createElement(final String nodeKey) {
         // node key is ignored.
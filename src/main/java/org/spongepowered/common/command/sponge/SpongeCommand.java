@@ -67,16 +67,26 @@
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.scheduler.SpongeScheduledTask;
+import org.spongepowered.common.scheduler.SpongeScheduler;
+import org.spongepowered.common.scheduler.TaskExecutionStats;
+import org.spongepowered.common.timings.SpongeTimings;
+import org.spongepowered.common.timings.Timing;
+import org.spongepowered.common.timings.TimingsReport;
 import org.spongepowered.common.util.JvmUtil;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginMetadata;
 import org.spongepowered.plugin.metadata.model.PluginContributor;
 
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -159,6 +169,39 @@ public Command.Parameterized createSpongeCommand() {
                 .executor(this::tpsExecutor)
                 .build();
 
+        // /sponge scheduler
+        final Command.Parameterized schedulerCommand = Command.builder()
+                .permission("sponge.command.scheduler")
+                .shortDescription(Component.text("Provides execution times of scheduled tasks by plugin."))
+                .executor(this::schedulerExecutor)
+                .build();
+
+        // /sponge timings on|off|report|paste-to-file
+        final Command.Parameterized timingsOnCommand = Command.builder()
+                .shortDescription(Component.text("Starts recording timings, discarding previous results."))
+                .executor(this::timingsOnExecutor)
+                .build();
+        final Command.Parameterized timingsOffCommand = Command.builder()
+                .shortDescription(Component.text("Stops recording timings."))
+                .executor(this::timingsOffExecutor)
+                .build();
+        final Command.Parameterized timingsReportCommand = Command.builder()
+                .shortDescription(Component.text("Shows the slowest recorded timings."))
+                .executor(this::timingsReportExecutor)
+                .build();
+        final Command.Parameterized timingsPasteCommand = Command.builder()
+                .shortDescription(Component.text("Writes the recorded timings to JSON and HTML files."))
+                .executor(this::timingsPasteExecutor)
+                .build();
+        final Command.Parameterized timingsCommand = Command.builder()
+                .permission("sponge.command.timings")
+                .shortDescription(Component.text("Records the time spent in plugin listeners, tasks, commands and ticks."))
+                .addChild(timingsOnCommand, "on")
+                .addChild(timingsOffCommand, "off")
+                .addChild(timingsReportCommand, "report")
+                .addChild(timingsPasteCommand, "paste-to-file")
+                .build();
+
         // /sponge version
         final Command.Parameterized versionCommand = Command.builder()
                 .permission("sponge.command.version")
@@ -204,6 +247,8 @@ public Command.Parameterized createSpongeCommand() {
                 .addChild(chunksCommand, "chunks")
                 .addChild(heapCommand, "heap")
                 .addChild(pluginsCommand, "plugins")
+                .addChild(schedulerCommand, "scheduler")
+                .addChild(timingsCommand, "timings")
                 .addChild(tpsCommand, "tps")
                 .addChild(versionCommand, "version")
                 .addChild(whichCommand, "which")
@@ -485,6 +530,128 @@ private Command.Parameterized chunksSubcommand() {
         return CommandResult.success();
     }
 
+    private @NonNull CommandResult schedulerExecutor(final CommandContext context) {
+        final List<Component> content = new ArrayList<>();
+        if (SpongeCommon.game().isServerAvailable()) {
+            final SpongeScheduler serverScheduler = SpongeCommon.serverScheduler();
+            content.add(Component.text("Server", NamedTextColor.WHITE, TextDecoration.BOLD));
+            content.add(Component.text()
+                .append(SpongeCommand.INDENT_COMPONENT)
+                .append(Component.text("Tick budget: ", NamedTextColor.GRAY))
+                .append(Component.text(SpongeConfigs.getCommon().get().scheduler.syncTickBudget <= 0 ? "unlimited"
+                    : SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(SpongeConfigs.getCommon().get().scheduler.syncTickBudget) + "ms"))
+                .append(Component.text(", deferred tasks: ", NamedTextColor.GRAY))
+                .append(Component.text(serverScheduler.deferredTasks()))
+                .build());
+            this.appendSchedulerStats(serverScheduler, content);
+            content.add(Component.newline());
+        }
+        final SpongeScheduler asyncScheduler = SpongeCommon.asyncScheduler();
+        content.add(Component.text("Async", NamedTextColor.WHITE, TextDecoration.BOLD));
+        this.appendSchedulerStats(asyncScheduler, content);
+
+        SpongeCommon.game().serviceProvider()
+          .paginationService()
+          .builder()
+          .contents(content)
+          .title(Component.text("Scheduled Task Timings", NamedTextColor.WHITE))
+          .padding(Component.text("-", NamedTextColor.WHITE))
+          .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
+    private void appendSchedulerStats(final SpongeScheduler scheduler, final List<Component> content) {
+        scheduler.pluginStats().entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<PluginContainer, TaskExecutionStats> e) -> e.getValue().totalNanos()).reversed())
+            .forEach(entry -> {
+                final String pluginId = entry.getKey().metadata().id();
+                content.add(this.appendTaskStats(Component.text()
+                    .append(SpongeCommand.INDENT_COMPONENT)
+                    .append(Component.text(pluginId, SpongeCommand.LIGHT_BLUE)), entry.getValue()).build());
+                scheduler.tasks(entry.getKey()).stream()
+                    .map(SpongeScheduledTask.class::cast)
+                    .filter(task -> task.stats().executions() > 0)
+                    .sorted(Comparator.comparingLong((SpongeScheduledTask task) -> task.stats().totalNanos()).reversed())
+                    .limit(5)
+                    .forEach(task -> content.add(this.appendTaskStats(Component.text()
+                        .append(SpongeCommand.LONG_INDENT_COMPONENT)
+                        .append(Component.text(task.name(), NamedTextColor.GRAY)), task.stats()).build()));
+            });
+    }
+
+    private TextComponent.Builder appendTaskStats(final TextComponent.Builder builder, final TaskExecutionStats stats) {
+        return builder.append(Component.text(": ", NamedTextColor.GRAY))
+            .append(Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(stats.totalNanos() * 1.0E-6D) + "ms total"))
+            .append(Component.text(" (", NamedTextColor.GRAY)
+                .append(Component.text(stats.executions() + " runs, "
+                    + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(stats.averageNanos() * 1.0E-6D) + "ms avg, "
+                    + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(stats.maxNanos() * 1.0E-6D) + "ms max)")));
+    }
+
+    private @NonNull CommandResult timingsOnExecutor(final CommandContext context) {
+        SpongeTimings.enable();
+        context.sendMessage(Identity.nil(), Component.text("Timings are now being recorded.", NamedTextColor.GREEN));
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult timingsOffExecutor(final CommandContext context) {
+        SpongeTimings.disable();
+        context.sendMessage(Identity.nil(), Component.text("Timings are no longer being recorded.", NamedTextColor.GREEN));
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult timingsReportExecutor(final CommandContext context) {
+        final List<Component> content = new ArrayList<>();
+        content.add(Component.text()
+            .append(Component.text("Recording: ", NamedTextColor.GRAY))
+            .append(Component.text(SpongeTimings.isEnabled() ? "on" : "off"))
+            .append(SpongeTimings.wasEnabled()
+                ? Component.text(", for ", NamedTextColor.GRAY)
+                    .append(Component.text((System.currentTimeMillis() - SpongeTimings.enabledSince()) / 1000 + "s"))
+                : Component.text(", not enabled yet", NamedTextColor.GRAY))
+            .build());
+        final List<Timing> timings = TimingsReport.sortedTimings();
+        for (final Timing timing : timings.subList(0, Math.min(20, timings.size()))) {
+            content.add(Component.text()
+                .append(Component.text(timing.group(), SpongeCommand.LIGHT_BLUE))
+                .append(Component.text(" " + timing.name(), NamedTextColor.WHITE))
+                .build());
+            content.add(Component.text()
+                .append(SpongeCommand.INDENT_COMPONENT)
+                .append(Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(timing.totalNanos() * 1.0E-6D) + "ms total"))
+                .append(Component.text(" (", NamedTextColor.GRAY)
+                    .append(Component.text(timing.count() + " calls, "
+                        + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(timing.averageNanos() * 1.0E-6D) + "ms avg, "
+                        + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(timing.percentileNanos(0.95) * 1.0E-6D) + "ms p95, "
+                        + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(timing.maxNanos() * 1.0E-6D) + "ms max)")))
+                .build());
+        }
+
+        SpongeCommon.game().serviceProvider()
+          .paginationService()
+          .builder()
+          .contents(content)
+          .title(Component.text("Timings", NamedTextColor.WHITE))
+          .padding(Component.text("-", NamedTextColor.WHITE))
+          .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult timingsPasteExecutor(final CommandContext context) {
+        try {
+            final List<Path> files = TimingsReport.write();
+            context.sendMessage(Identity.nil(), Component.text("Timings report written to:", NamedTextColor.GREEN));
+            for (final Path file : files) {
+                context.sendMessage(Identity.nil(), Component.text().append(SpongeCommand.INDENT_COMPONENT)
+                    .append(Component.text(file.toAbsolutePath().toString(), NamedTextColor.GRAY)).build());
+            }
+        } catch (final IOException e) {
+            SpongeCommon.logger().error("Could not write timings report", e);
+            context.sendMessage(Identity.nil(), Component.text("Failed to write the timings report. See the console for details.", NamedTextColor.RED));
+        }
+        return CommandResult.success();
+    }
+
     public static double getAverage(long[] $$0) {
         long $$1 = 0L;
 
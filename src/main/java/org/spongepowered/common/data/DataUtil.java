@@ -25,9 +25,11 @@
 package org.spongepowered.common.data;
 
 import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataManipulator;
+import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataStore;
@@ -36,13 +38,19 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.bridge.data.DataCompoundHolder;
 import org.spongepowered.common.bridge.data.SpongeDataHolderBridge;
+import org.spongepowered.common.data.manipulator.TrackedDataManipulator;
 import org.spongepowered.common.data.persistence.NBTTranslator;
+import org.spongepowered.common.data.persistence.datastore.DataStoreRegistry;
 import org.spongepowered.common.data.persistence.datastore.SpongeDataStore;
 import org.spongepowered.common.util.Constants;
 
 import java.lang.reflect.Type;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public final class DataUtil {
 
@@ -173,7 +181,19 @@ private static void upgradeV2CustomData(final CompoundTag compound, final DataCo
     }
 
     public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean serializeSpongeData(final T dataHolder) {
-        CompoundTag compound = dataHolder.data$getCompound();
+        final DataManipulator.Mutable manipulator = dataHolder.bridge$getManipulator();
+        final @Nullable CompoundTag current = dataHolder.data$getCompound();
+        if (manipulator instanceof TrackedDataManipulator tracked && dataHolder.bridge$isDataSynced(current)) {
+            if (tracked.dirtyKeys().isEmpty()) {
+                return current != null; // Nothing changed since the last sync
+            }
+            final @Nullable Set<SpongeDataStore> dirtyStores = DataUtil.dirtyDataStores(dataHolder.getClass(), tracked.dirtyKeys());
+            if (dirtyStores != null) {
+                return DataUtil.serializeDirtySpongeData(dataHolder, tracked, current, dirtyStores);
+            }
+        }
+
+        CompoundTag compound = current;
         if (compound == null) {
             compound = new CompoundTag();
         } else {
@@ -189,7 +209,6 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean se
 
         dataHolder.bridge$getFailedData().forEach(customDataRoot::set); // Add back failed data
 
-        final DataManipulator.Mutable manipulator = dataHolder.bridge$getManipulator();
         final Type dataHolderType = dataHolder.getClass();
         manipulator.getKeys().stream()
                 .map(key -> SpongeDataManager.getDatastoreRegistry().getDataStore(key, dataHolderType))
@@ -199,13 +218,110 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean se
         if (DataUtil.cleanupEmptySpongeData(allData)) {
             compound.merge(NBTTranslator.INSTANCE.translate(allData));
         }
+        if (manipulator instanceof TrackedDataManipulator tracked) {
+            tracked.clearDirtyKeys();
+        }
         if (compound.isEmpty()) {
             dataHolder.data$setCompound(null);
+            dataHolder.bridge$markDataSynced(null);
             return false;
         }
+        dataHolder.bridge$markDataSynced(compound);
         return true;
     }
 
+    /**
+     * Collects the plugin data stores owning the given keys. Returns null if
+     * any of them is handled by a vanilla data store, those may write to
+     * arbitrary locations and require a full re-serialization.
+     */
+    private static @Nullable Set<SpongeDataStore> dirtyDataStores(final Type dataHolderType, final Set<Key<?>> dirtyKeys) {
+        final DataStoreRegistry registry = SpongeDataManager.getDatastoreRegistry();
+        final Set<SpongeDataStore> dataStores = new HashSet<>();
+        for (final Key<?> key : dirtyKeys) {
+            final DataStore dataStore = registry.getDataStore(key, dataHolderType);
+            if (registry.isNoOp(dataStore)) {
+                continue;
+            }
+            if (!(dataStore instanceof SpongeDataStore spongeDataStore) || spongeDataStore.getDataStoreKey() == null) {
+                return null;
+            }
+            dataStores.add(spongeDataStore);
+        }
+        return dataStores;
+    }
+
+    /**
+     * Re-encodes only the sub-tags of the given data stores, leaving all other
+     * custom data in the compound untouched.
+     */
+    private static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean serializeDirtySpongeData(final T dataHolder,
+            final TrackedDataManipulator manipulator, final @Nullable CompoundTag current, final Set<SpongeDataStore> dataStores) {
+        final Map<ResourceKey, @Nullable CompoundTag> changed = new HashMap<>();
+        for (final SpongeDataStore dataStore : dataStores) {
+            final ResourceKey key = dataStore.getDataStoreKey();
+            final DataContainer data = DataContainer.createNew();
+            dataStore.serialize(manipulator, data);
+            changed.put(key, data.getView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.then(DataQuery.of(key.namespace(), key.value())))
+                    .map(view -> NBTTranslator.INSTANCE.translate(view))
+                    .orElse(null));
+        }
+        final @Nullable CompoundTag compound = DataUtil.withSpongeData(current, changed);
+        manipulator.clearDirtyKeys();
+
+        dataHolder.data$setCompound(compound);
+        dataHolder.bridge$markDataSynced(compound);
+        return compound != null;
+    }
+
+    /**
+     * Replaces the sub-tags of the given data stores, or removes them where
+     * the new sub-tag is null. The original compound is not modified as it
+     * might be shared, but only the sponge data root and the namespaces of
+     * the given data stores are copied, all other tags are shared with it.
+     *
+     * @param current The current compound, if any
+     * @param changed The new sub-tags by data store key
+     * @return The updated compound, or null if it would be empty
+     */
+    static @Nullable CompoundTag withSpongeData(final @Nullable CompoundTag current, final Map<ResourceKey, @Nullable CompoundTag> changed) {
+        final CompoundTag compound = current == null ? new CompoundTag() : DataUtil.shallowCopy(current);
+        final String rootKey = Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString(".");
+        final CompoundTag root = DataUtil.shallowCopy(compound.getCompound(rootKey));
+        final Map<String, CompoundTag> namespaces = new HashMap<>();
+        for (final Map.Entry<ResourceKey, @Nullable CompoundTag> entry : changed.entrySet()) {
+            final ResourceKey key = entry.getKey();
+            final CompoundTag namespace = namespaces.computeIfAbsent(key.namespace(), ns -> DataUtil.shallowCopy(root.getCompound(ns)));
+            final @Nullable CompoundTag data = entry.getValue();
+            if (data == null) {
+                namespace.remove(key.value());
+            } else {
+                namespace.put(key.value(), data);
+            }
+        }
+        namespaces.forEach((key, namespace) -> {
+            if (namespace.isEmpty()) {
+                root.remove(key);
+            } else {
+                root.put(key, namespace);
+            }
+        });
+        if (root.isEmpty()) {
+            compound.remove(rootKey);
+        } else {
+            compound.put(rootKey, root);
+        }
+        return compound.isEmpty() ? null : compound;
+    }
+
+    private static CompoundTag shallowCopy(final CompoundTag tag) {
+        final CompoundTag copy = new CompoundTag();
+        for (final String key : tag.getAllKeys()) {
+            copy.put(key, tag.get(key));
+        }
+        return copy;
+    }
+
     private static boolean cleanupEmptySpongeData(final DataContainer allData) {
         return allData.getView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT).map(spongeData -> {
                 if (spongeData.isEmpty()) {
@@ -74,6 +74,13 @@ public interface SpongeDataHolder extends DataHolder {
     }
 
     default <T, E, V extends Value<E>> T impl$apply(final Key<V> key, final BiFunction<DataProvider, DataHolder, T> function, final Supplier<T> defaultResult) {
+        if (!DelegateDataHolders.isDelegating(this)) {
+            final DataProvider<V, E> dataProvider = this.impl$getProviderFor(key, this);
+            if (dataProvider.isSupported(this)) {
+                return function.apply(dataProvider, this);
+            }
+            return defaultResult.get();
+        }
         for (final DataHolder dataHolder : this.impl$delegateDataHolder()) {
             final DataProvider<V, E> dataProvider = this.impl$getProviderFor(key, dataHolder);
             if (dataProvider.isSupported(dataHolder)) {
@@ -59,6 +59,13 @@ public interface SpongeMutableDataHolder extends SpongeDataHolder, DataHolder.Mu
     }
 
     default <E, V extends Value<E>> DataTransactionResult impl$applyTransaction(Key<V> key, BiFunction<DataProvider<V, E>, Mutable, DataTransactionResult> function, Supplier<DataTransactionResult> defaultResult) {
+        if (!DelegateDataHolders.isDelegating(this)) {
+            final DataProvider<V, E> dataProvider = this.impl$getProviderFor(key, this);
+            if (dataProvider.isSupported(this)) {
+                return function.apply(dataProvider, this);
+            }
+            return defaultResult.get();
+        }
         for (Mutable dataHolder : this.impl$mutableDelegateDataHolder()) {
             // Offer to the first available mutable data holder
             final DataProvider<V, E> dataProvider = this.impl$getProviderFor(key, dataHolder);
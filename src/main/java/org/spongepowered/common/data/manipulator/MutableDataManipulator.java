@@ -44,7 +44,7 @@
 import java.util.function.Predicate;
 
 @SuppressWarnings("unchecked")
-final class MutableDataManipulator extends SpongeDataManipulator implements DataManipulator.Mutable {
+class MutableDataManipulator extends SpongeDataManipulator implements DataManipulator.Mutable {
 
     MutableDataManipulator() {
         super(new HashMap<>());
@@ -36,6 +36,15 @@
 
 public final class MutableDataManipulatorFactory implements DataManipulator.Mutable.Factory {
 
+    /**
+     * Creates an empty manipulator that tracks which keys are modified.
+     *
+     * @return The new manipulator
+     */
+    public static TrackedDataManipulator tracked() {
+        return new TrackingMutableDataManipulator();
+    }
+
     @Override
     public DataManipulator.Mutable of() {
         return new MutableDataManipulator();
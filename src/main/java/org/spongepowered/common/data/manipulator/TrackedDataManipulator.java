@@ -0,0 +1,48 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.manipulator;
+
+import org.spongepowered.api.data.DataManipulator;
+import org.spongepowered.api.data.Key;
+
+import java.util.Set;
+
+/**
+ * A {@link DataManipulator.Mutable} that remembers which {@link Key keys}
+ * were set or removed since it was last marked clean, allowing data holders
+ * to only re-serialize the parts of their custom data that changed.
+ */
+public interface TrackedDataManipulator extends DataManipulator.Mutable {
+
+    /**
+     * Gets the keys that were modified since the last call to
+     * {@link #clearDirtyKeys()}.
+     *
+     * @return The modified keys, may be a live view
+     */
+    Set<Key<?>> dirtyKeys();
+
+    void clearDirtyKeys();
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.manipulator;
+
+import org.spongepowered.api.data.DataManipulator;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.value.MergeFunction;
+import org.spongepowered.api.data.value.Value;
+import org.spongepowered.api.data.value.ValueContainer;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+final class TrackingMutableDataManipulator extends MutableDataManipulator implements TrackedDataManipulator {
+
+    private final Set<Key<?>> dirtyKeys = new HashSet<>();
+
+    @Override
+    public Set<Key<?>> dirtyKeys() {
+        return this.dirtyKeys;
+    }
+
+    @Override
+    public void clearDirtyKeys() {
+        this.dirtyKeys.clear();
+    }
+
+    @Override
+    public DataManipulator.Mutable copyFrom(final ValueContainer valueContainer, final MergeFunction overlap,
+        final Predicate<Key<?>> predicate) {
+        super.copyFrom(valueContainer, overlap, predicate);
+        for (final Key<?> key : valueContainer.getKeys()) {
+            if (predicate.test(key)) {
+                this.dirtyKeys.add(key);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public DataManipulator.Mutable copyFrom(final ValueContainer valueContainer, final MergeFunction overlap,
+        final Iterable<Key<?>> keys) {
+        super.copyFrom(valueContainer, overlap, keys);
+        keys.forEach(this.dirtyKeys::add);
+        return this;
+    }
+
+    @Override
+    public DataManipulator.Mutable copyFrom(final ValueContainer valueContainer, final MergeFunction overlap) {
+        super.copyFrom(valueContainer, overlap);
+        this.dirtyKeys.addAll(valueContainer.getKeys());
+        return this;
+    }
+
+    @Override
+    public <E> DataManipulator.Mutable set(final Key<? extends Value<E>> key, final E value) {
+        super.set(key, value);
+        this.dirtyKeys.add(key);
+        return this;
+    }
+
+    @Override
+    public DataManipulator.Mutable remove(final Key<?> key) {
+        final boolean present = this.values.containsKey(key);
+        super.remove(key);
+        if (present) {
+            this.dirtyKeys.add(key);
+        }
+        return this;
+    }
+}
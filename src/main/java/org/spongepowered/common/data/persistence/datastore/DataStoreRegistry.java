@@ -86,6 +86,10 @@ public Optional<DataStore> getDataStore(final ResourceKey key, final Type holder
         return dataStores.stream().findAny();
     }
 
+    public boolean isNoOp(final DataStore dataStore) {
+        return dataStore == this.NO_OP_DATASTORE;
+    }
+
     private DataStore loadDataStore(final LookupKey lookupKey) {
         final List<DataStore> dataStores = filterDataStoreCandidates(this.dataStoreByValueKey.get(lookupKey.key), lookupKey.holderType);
         if (dataStores.size() > 1) {
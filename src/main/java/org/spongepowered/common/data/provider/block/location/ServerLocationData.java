@@ -99,11 +99,11 @@ public static void register(final DataProviderRegistrator registrator) {
                         .delete(h -> (((CustomNameableBridge)h.blockEntity().get())).bridge$setCustomDisplayName(null))
                         .supports(h -> h.blockEntity().isPresent() && h.blockEntity().get() instanceof NameableBlockEntity)
                     .create(Keys.CREATOR)
-                        .get(h -> ((LevelChunkBridge)h.world().chunk(h.chunkPosition())).bridge$getBlockCreatorUUID(VecHelper.toBlockPos(h.blockPosition())).orElse(null))
+                        .get(h -> ((LevelChunkBridge)h.world().chunk(h.chunkPosition())).bridge$getBlockCreator(VecHelper.toBlockPos(h.blockPosition())))
                         .set((h, v) -> ((LevelChunkBridge)h.world().chunk(h.chunkPosition())).bridge$setBlockCreator(VecHelper.toBlockPos(h.blockPosition()), v))
                         .delete(h -> ((LevelChunkBridge)h.world().chunk(h.chunkPosition())).bridge$setBlockCreator(VecHelper.toBlockPos(h.blockPosition()), null))
                     .create(Keys.NOTIFIER)
-                        .get(h -> ((LevelChunkBridge)h.world().chunk(h.chunkPosition())).bridge$getBlockNotifierUUID(VecHelper.toBlockPos(h.blockPosition())).orElse(null))
+                        .get(h -> ((LevelChunkBridge)h.world().chunk(h.chunkPosition())).bridge$getBlockNotifier(VecHelper.toBlockPos(h.blockPosition())))
                         .set((h, v) -> ((LevelChunkBridge)h.world().chunk(h.chunkPosition())).bridge$setBlockNotifier(VecHelper.toBlockPos(h.blockPosition()), v))
                         .delete(h -> ((LevelChunkBridge)h.world().chunk(h.chunkPosition())).bridge$setBlockNotifier(VecHelper.toBlockPos(h.blockPosition()), null))
                     ;
@@ -44,6 +44,8 @@ public final class ShouldFire {
     // However, you may *not* check ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM,
     // since SpawnEntityEvent.CUSTOM is not in the hierarchy of DropItemEvent.DISPENSE
 
+    public static boolean AFFECT_SLOT_EVENT = false;
+
     public static boolean ANIMATE_HAND_EVENT = false;
     public static boolean INTERACT_ITEM_EVENT_PRIMARY = false;
 
@@ -60,6 +62,8 @@ public final class ShouldFire {
 
     public static boolean CONSTRUCT_ENTITY_EVENT_PRE = false;
 
+    public static boolean INTERACT_CONTAINER_EVENT = false;
+
     public static boolean DESTRUCT_ENTITY_EVENT = false;
 
     public static boolean DROP_ITEM_EVENT = false;
@@ -123,6 +123,7 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
+import org.spongepowered.math.GenericMath;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.util.ArrayList;
@@ -388,6 +389,10 @@ public static void callNaturalMoveEntityEvent(final net.minecraft.world.entity.E
         if (entity.isRemoved()) {
             return;
         }
+        // Most ticking entities did not move, don't bother with vectors or cause frames for those
+        if (!SpongeCommonEventFactory.hasMoved(entity.xOld, entity.yOld, entity.zOld, entity.getX(), entity.getY(), entity.getZ())) {
+            return;
+        }
 
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.pushCause(entity);
@@ -444,11 +449,11 @@ public static void callNaturalRotateEntityEvent(final net.minecraft.world.entity
             final Vector3d fromPosition,
             final Vector3d toPosition) {
 
-        final Cause cause = PhaseTracker.getCauseStackManager().currentCause();
         // Call move & rotate event as needed...
         if (ShouldFire.MOVE_ENTITY_EVENT && fromPosition != null && toPosition != null &&
-                !fromPosition.mul(SpongeCommonEventFactory.MOVEMENT_GRID_POINTS_PER_BLOCK).toInt()
-                        .equals(toPosition.mul(SpongeCommonEventFactory.MOVEMENT_GRID_POINTS_PER_BLOCK).toInt())) {
+                SpongeCommonEventFactory.hasMoved(fromPosition.x(), fromPosition.y(), fromPosition.z(),
+                        toPosition.x(), toPosition.y(), toPosition.z())) {
+            final Cause cause = PhaseTracker.getCauseStackManager().currentCause();
             final MoveEntityEvent event = SpongeEventFactory.createMoveEntityEvent(cause, movingEntity, fromPosition,
                     toPosition, toPosition);
             if (SpongeCommon.post(event)) {
@@ -461,6 +466,36 @@ public static void callNaturalRotateEntityEvent(final net.minecraft.world.entity
         }
     }
 
+    /**
+     * Checks whether a movement is large enough for a {@link MoveEntityEvent}
+     * to be posted for it, without allocating any vectors.
+     *
+     * @return Whether the position changed on the movement grid
+     */
+    public static boolean hasMoved(final double fromX, final double fromY, final double fromZ,
+            final double toX, final double toY, final double toZ) {
+        return SpongeCommonEventFactory.hasChangedOnGrid(fromX, toX, SpongeCommonEventFactory.MOVEMENT_GRID_POINTS_PER_BLOCK)
+                || SpongeCommonEventFactory.hasChangedOnGrid(fromY, toY, SpongeCommonEventFactory.MOVEMENT_GRID_POINTS_PER_BLOCK)
+                || SpongeCommonEventFactory.hasChangedOnGrid(fromZ, toZ, SpongeCommonEventFactory.MOVEMENT_GRID_POINTS_PER_BLOCK);
+    }
+
+    /**
+     * Checks whether a rotation is large enough for a {@link RotateEntityEvent}
+     * to be posted for it, without allocating any vectors.
+     *
+     * @return Whether the rotation changed on the rotation grid
+     */
+    public static boolean hasRotated(final double fromXRot, final double fromYRot, final double toXRot, final double toYRot) {
+        return SpongeCommonEventFactory.hasChangedOnGrid(fromXRot, toXRot, SpongeCommonEventFactory.ROTATION_GRID_POINTS_PER_UNIT)
+                || SpongeCommonEventFactory.hasChangedOnGrid(fromYRot, toYRot, SpongeCommonEventFactory.ROTATION_GRID_POINTS_PER_UNIT);
+    }
+
+    private static boolean hasChangedOnGrid(final double from, final double to, final double gridPoints) {
+        // Floored like Vector3d#toInt, so every cell is the same size and a move across zero
+        // changes cell just like any other move of the same distance
+        return GenericMath.floor(from * gridPoints) != GenericMath.floor(to * gridPoints);
+    }
+
     public static @Nullable Vector3d callRotateEvent(
             final org.spongepowered.api.entity.Entity movingEntity,
             final Vector3d fromRotation,
@@ -469,8 +504,9 @@ public static void callNaturalRotateEntityEvent(final net.minecraft.world.entity
 
         final Cause cause = PhaseTracker.getCauseStackManager().currentCause();
         if (ShouldFire.ROTATE_ENTITY_EVENT && fromRotation != null && toRotation != null &&
-                !fromRotation.mul(SpongeCommonEventFactory.ROTATION_GRID_POINTS_PER_UNIT).toInt()
-                        .equals(toRotation.mul(SpongeCommonEventFactory.ROTATION_GRID_POINTS_PER_UNIT).toInt())) {
+                (SpongeCommonEventFactory.hasRotated(fromRotation.x(), fromRotation.y(), toRotation.x(), toRotation.y())
+                        || SpongeCommonEventFactory.hasChangedOnGrid(fromRotation.z(), toRotation.z(),
+                                SpongeCommonEventFactory.ROTATION_GRID_POINTS_PER_UNIT))) {
             final RotateEntityEvent event = SpongeEventFactory.createRotateEntityEvent(cause, movingEntity, fromRotation,
                     toRotation);
             if (SpongeCommon.post(event)) {
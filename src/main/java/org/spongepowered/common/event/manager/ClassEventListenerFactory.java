@@ -31,12 +31,11 @@
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ALOAD;
-import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.ARETURN;
 import static org.objectweb.asm.Opcodes.BIPUSH;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
 import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
-import static org.objectweb.asm.Opcodes.IFNULL;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
@@ -46,7 +45,6 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
-import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 import org.spongepowered.api.event.Event;
@@ -108,7 +106,9 @@ MethodHandles.Lookup createLookup(final ListenerClassVisitor.DiscoveredMethod me
     }
 
     private static final String BASE_HANDLER = Type.getInternalName(AnnotatedEventListener.class);
+    private static final String FILTERED_HANDLER = Type.getInternalName(FilteredEventListener.class);
     private static final String HANDLE_METHOD_DESCRIPTOR = '(' + Type.getDescriptor(Event.class) + ")V";
+    private static final String INVOKE_METHOD_DESCRIPTOR = "([Ljava/lang/Object;)V";
 
     // generates a class -- the FILTER field must be set to the event filter class
     private static byte[] generateFilteredClass(
@@ -127,7 +127,7 @@ private static byte[] generateFilteredClass(
         MethodVisitor mv;
         final FieldVisitor fv;
 
-        cw.visit(V11, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, ClassEventListenerFactory.BASE_HANDLER, null);
+        cw.visit(V11, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, ClassEventListenerFactory.FILTERED_HANDLER, null);
         {
             fv = cw.visitField(
                 ACC_PRIVATE + ACC_STATIC,
@@ -143,35 +143,37 @@ private static byte[] generateFilteredClass(
             mv.visitCode();
             mv.visitVarInsn(ALOAD, 0);
             mv.visitVarInsn(ALOAD, 1);
-            mv.visitMethodInsn(INVOKESPECIAL, ClassEventListenerFactory.BASE_HANDLER, "<init>", "(Ljava/lang/Object;)V", false);
+            mv.visitMethodInsn(INVOKESPECIAL, ClassEventListenerFactory.FILTERED_HANDLER, "<init>", "(Ljava/lang/Object;)V", false);
             mv.visitInsn(RETURN);
             mv.visitMaxs(0, 0);
             mv.visitEnd();
         }
         {
-            mv = cw.visitMethod(ACC_PUBLIC, "handle",
-                ClassEventListenerFactory.HANDLE_METHOD_DESCRIPTOR, null, new String[] { "java/lang/Exception" });
+            mv = cw.visitMethod(ACC_PUBLIC, "filter", FilterGenerator.FILTER_DESCRIPTOR, null, null);
             mv.visitCode();
             mv.visitFieldInsn(GETSTATIC, name, ClassEventListenerFactory.FILTER, EventFilter.class.descriptorString());
             mv.visitVarInsn(ALOAD, 1);
             mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(EventFilter.class), "filter",
                 FilterGenerator.FILTER_DESCRIPTOR, true);
-            mv.visitVarInsn(ASTORE, 2);
-            mv.visitVarInsn(ALOAD, 2);
-            final Label l2 = new Label();
-            mv.visitJumpInsn(IFNULL, l2);
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "invoke",
+                ClassEventListenerFactory.INVOKE_METHOD_DESCRIPTOR, null, new String[] { "java/lang/Exception" });
+            mv.visitCode();
             mv.visitVarInsn(ALOAD, 0);
             mv.visitFieldInsn(GETFIELD, name, "handle", "Ljava/lang/Object;");
             mv.visitTypeInsn(CHECKCAST, handleName);
             for (int i = 0; i < method.parameterTypes().length; i++) {
-                mv.visitVarInsn(ALOAD, 2);
+                mv.visitVarInsn(ALOAD, 1);
                 mv.visitIntInsn(BIPUSH, i);
                 mv.visitInsn(AALOAD);
                 final Type paramType = method.parameterTypes()[i].type();
                 GeneratorUtils.visitUnboxingMethod(mv, paramType);
             }
             mv.visitMethodInsn(INVOKEVIRTUAL, handleName, method.methodName(), eventDescriptor.toString(), false);
-            mv.visitLabel(l2);
             mv.visitInsn(RETURN);
             mv.visitMaxs(0, 0);
             mv.visitEnd();
@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+
+/**
+ * The base of a dispatcher generated by {@link EventDispatcherGenerator} for
+ * a single baked {@link RegisteredListener.Cache}.
+ *
+ * <p>The generated subclass unrolls every listener of the cache into its own
+ * call site, evaluates the listener filters before any cause frame or phase
+ * context is created, and shares a single cause frame between consecutive
+ * listeners of the same plugin.</p>
+ */
+public abstract class CompiledEventDispatcher {
+
+    protected final RegisteredListener<?>[] listeners;
+
+    protected CompiledEventDispatcher(final RegisteredListener<?>[] listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Passes the event to every listener, implemented by the generated class.
+     *
+     * @param event The event
+     */
+    protected abstract void dispatch(Event event);
+
+    public final boolean post(final Event event) {
+        this.dispatch(event);
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = null;
+        }
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    protected final CauseStackManager.StackFrame enterFrame(final int index) {
+        final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
+        frame.pushCause(this.listeners[index].getPlugin());
+        return frame;
+    }
+
+    protected final @Nullable PhaseContext<@NonNull ?> enterContext(final int index) {
+        final @Nullable PhaseContext<@NonNull ?> context = SpongeEventManager.createListenerContext(this.listeners[index].getPlugin());
+        if (context != null) {
+            context.buildAndSwitch();
+        }
+        return context;
+    }
+
+    protected static void exit(final CauseStackManager.@Nullable StackFrame frame, final @Nullable PhaseContext<@NonNull ?> context) {
+        if (context != null) {
+            try {
+                context.close();
+            } catch (final Throwable e) {
+                SpongeCommon.logger().error("Could not close listener phase context", e);
+            }
+        }
+        if (frame != null) {
+            try {
+                frame.close();
+            } catch (final Throwable e) {
+                SpongeCommon.logger().error("Could not close listener cause frame", e);
+            }
+        }
+    }
+
+    protected static void order(final Event event, final Order order) {
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = order;
+        }
+    }
+
+    protected final void error(final Event event, final int index, final Throwable e) {
+        SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(),
+            this.listeners[index].getPlugin().metadata().id(), e);
+    }
+
+}
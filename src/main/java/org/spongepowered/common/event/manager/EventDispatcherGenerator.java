@@ -0,0 +1,296 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.IFNONNULL;
+import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.SIPUSH;
+import static org.objectweb.asm.Opcodes.V11;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.common.event.gen.LoaderClassWriter;
+import org.spongepowered.common.event.tracking.PhaseContext;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+/**
+ * Generates a {@link CompiledEventDispatcher} for the listeners of a baked
+ * {@link RegisteredListener.Cache}.
+ *
+ * <p>Every listener is stored in a final field of a hidden class and gets its
+ * own call site, which allows the JIT to treat the listener as a constant and
+ * inline its filter and handler into the dispatcher. The generated
+ * {@code dispatch} method is equivalent to the following, for each run of
+ * consecutive listeners belonging to the same plugin:</p>
+ *
+ * <pre>{@code
+ * frame = null; context = null;
+ * try {
+ *     args = this.l0.filter(event);
+ *     if (args != null) {
+ *         if (frame == null) {
+ *             frame = this.enterFrame(0);
+ *             context = this.enterContext(0);
+ *         }
+ *         order(event, Order.DEFAULT);
+ *         this.l0.invoke(args);
+ *     }
+ * } catch (Throwable e) {
+ *     this.error(event, 0, e);
+ * }
+ * // ... repeated for the remaining listeners of the plugin
+ * exit(frame, context);
+ * }</pre>
+ */
+public final class EventDispatcherGenerator {
+
+    /**
+     * The maximum amount of listeners to unroll into a single dispatcher,
+     * caches with more listeners are dispatched by the regular loop in
+     * {@link SpongeEventManager} to stay well below the method size limit.
+     */
+    static final int MAX_LISTENERS = 512;
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final String DISPATCHER = Type.getInternalName(CompiledEventDispatcher.class);
+    private static final String REGISTERED_LISTENER = Type.getInternalName(RegisteredListener.class);
+    private static final String FILTERED_LISTENER = Type.getInternalName(FilteredEventListener.class);
+    private static final String EVENT_LISTENER = Type.getInternalName(EventListener.class);
+    private static final String EVENT = Type.getDescriptor(Event.class);
+    private static final String ORDER = Type.getDescriptor(Order.class);
+    private static final String FRAME = Type.getDescriptor(CauseStackManager.StackFrame.class);
+    private static final String CONTEXT = Type.getDescriptor(PhaseContext.class);
+    private static final String CTOR_DESCRIPTOR = "([" + Type.getDescriptor(RegisteredListener.class) + ")V";
+
+    private static final int EVENT_INDEX = 1;
+    private static final int FRAME_INDEX = 2;
+    private static final int CONTEXT_INDEX = 3;
+    private static final int ARGS_INDEX = 4;
+    private static final int ERROR_INDEX = 5;
+
+    private EventDispatcherGenerator() {
+    }
+
+    /**
+     * Compiles a dispatcher for the given sorted listeners.
+     *
+     * @param eventType The event type the listeners were baked for
+     * @param listeners The listeners
+     * @return The dispatcher, or {@code null} if the listeners should be
+     *     dispatched by the interpretive path instead
+     */
+    public static @Nullable CompiledEventDispatcher compile(final EventType<?> eventType, final List<RegisteredListener<?>> listeners) {
+        if (listeners.isEmpty() || listeners.size() > EventDispatcherGenerator.MAX_LISTENERS) {
+            return null;
+        }
+        final RegisteredListener<?>[] array = listeners.toArray(new RegisteredListener<?>[0]);
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup()
+                .defineHiddenClass(EventDispatcherGenerator.generateClass(eventType, array), true);
+            return (CompiledEventDispatcher) lookup.findConstructor(lookup.lookupClass(),
+                MethodType.methodType(void.class, RegisteredListener[].class)).invoke(array);
+        } catch (final Throwable e) {
+            EventDispatcherGenerator.LOGGER.warn("Failed to compile event dispatcher for {}, falling back to the default dispatcher",
+                eventType, e);
+            return null;
+        }
+    }
+
+    private static String fieldName(final int index) {
+        return "l" + index;
+    }
+
+    private static String fieldDescriptor(final RegisteredListener<?> listener) {
+        return listener.listener() instanceof FilteredEventListener
+            ? 'L' + EventDispatcherGenerator.FILTERED_LISTENER + ';'
+            : 'L' + EventDispatcherGenerator.EVENT_LISTENER + ';';
+    }
+
+    static byte[] generateClass(final EventType<?> eventType, final RegisteredListener<?>[] listeners) {
+        final String name = EventDispatcherGenerator.DISPATCHER + '_'
+            + eventType.getType().getName().replace('.', '_').replace('$', '_');
+
+        final ClassWriter cw = new LoaderClassWriter(EventDispatcherGenerator.class.getClassLoader(),
+            ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        cw.visit(V11, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, EventDispatcherGenerator.DISPATCHER, null);
+
+        for (int i = 0; i < listeners.length; i++) {
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, EventDispatcherGenerator.fieldName(i),
+                EventDispatcherGenerator.fieldDescriptor(listeners[i]), null, null).visitEnd();
+        }
+
+        EventDispatcherGenerator.generateConstructor(cw, name, listeners);
+        EventDispatcherGenerator.generateDispatch(cw, name, listeners);
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static void generateConstructor(final ClassWriter cw, final String name, final RegisteredListener<?>[] listeners) {
+        final MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", EventDispatcherGenerator.CTOR_DESCRIPTOR, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitMethodInsn(INVOKESPECIAL, EventDispatcherGenerator.DISPATCHER, "<init>", EventDispatcherGenerator.CTOR_DESCRIPTOR, false);
+        for (int i = 0; i < listeners.length; i++) {
+            final String descriptor = EventDispatcherGenerator.fieldDescriptor(listeners[i]);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitIntInsn(SIPUSH, i);
+            mv.visitInsn(AALOAD);
+            mv.visitMethodInsn(INVOKEVIRTUAL, EventDispatcherGenerator.REGISTERED_LISTENER, "listener",
+                "()L" + EventDispatcherGenerator.EVENT_LISTENER + ';', false);
+            mv.visitTypeInsn(CHECKCAST, Type.getType(descriptor).getInternalName());
+            mv.visitFieldInsn(PUTFIELD, name, EventDispatcherGenerator.fieldName(i), descriptor);
+        }
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void generateDispatch(final ClassWriter cw, final String name, final RegisteredListener<?>[] listeners) {
+        final MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "dispatch", '(' + EventDispatcherGenerator.EVENT + ")V", null, null);
+        mv.visitCode();
+
+        for (int i = 0; i < listeners.length; i++) {
+            final boolean groupStart = i == 0 || listeners[i - 1].getPlugin() != listeners[i].getPlugin();
+            final boolean groupEnd = i == listeners.length - 1 || listeners[i + 1].getPlugin() != listeners[i].getPlugin();
+            if (groupStart) {
+                mv.visitInsn(ACONST_NULL);
+                mv.visitVarInsn(ASTORE, EventDispatcherGenerator.FRAME_INDEX);
+                mv.visitInsn(ACONST_NULL);
+                mv.visitVarInsn(ASTORE, EventDispatcherGenerator.CONTEXT_INDEX);
+            }
+            EventDispatcherGenerator.generateListener(mv, name, i, listeners[i]);
+            if (groupEnd) {
+                mv.visitVarInsn(ALOAD, EventDispatcherGenerator.FRAME_INDEX);
+                mv.visitVarInsn(ALOAD, EventDispatcherGenerator.CONTEXT_INDEX);
+                mv.visitMethodInsn(INVOKESTATIC, EventDispatcherGenerator.DISPATCHER, "exit",
+                    '(' + EventDispatcherGenerator.FRAME + EventDispatcherGenerator.CONTEXT + ")V", false);
+            }
+        }
+
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void generateListener(final MethodVisitor mv, final String name, final int index, final RegisteredListener<?> listener) {
+        final boolean filtered = listener.listener() instanceof FilteredEventListener;
+        final String descriptor = EventDispatcherGenerator.fieldDescriptor(listener);
+        final Label start = new Label();
+        final Label end = new Label();
+        final Label handler = new Label();
+        final Label entered = new Label();
+        final Label next = new Label();
+        mv.visitTryCatchBlock(start, end, handler, "java/lang/Throwable");
+
+        mv.visitLabel(start);
+        if (filtered) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, name, EventDispatcherGenerator.fieldName(index), descriptor);
+            mv.visitVarInsn(ALOAD, EventDispatcherGenerator.EVENT_INDEX);
+            mv.visitMethodInsn(INVOKEVIRTUAL, EventDispatcherGenerator.FILTERED_LISTENER, "filter",
+                '(' + EventDispatcherGenerator.EVENT + ")[Ljava/lang/Object;", false);
+            mv.visitVarInsn(ASTORE, EventDispatcherGenerator.ARGS_INDEX);
+            mv.visitVarInsn(ALOAD, EventDispatcherGenerator.ARGS_INDEX);
+            mv.visitJumpInsn(IFNULL, end);
+        }
+
+        // Only the first accepted listener of a plugin sets up the frame
+        mv.visitVarInsn(ALOAD, EventDispatcherGenerator.FRAME_INDEX);
+        mv.visitJumpInsn(IFNONNULL, entered);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitIntInsn(SIPUSH, index);
+        mv.visitMethodInsn(INVOKEVIRTUAL, EventDispatcherGenerator.DISPATCHER, "enterFrame", "(I)" + EventDispatcherGenerator.FRAME, false);
+        mv.visitVarInsn(ASTORE, EventDispatcherGenerator.FRAME_INDEX);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitIntInsn(SIPUSH, index);
+        mv.visitMethodInsn(INVOKEVIRTUAL, EventDispatcherGenerator.DISPATCHER, "enterContext", "(I)" + EventDispatcherGenerator.CONTEXT, false);
+        mv.visitVarInsn(ASTORE, EventDispatcherGenerator.CONTEXT_INDEX);
+        mv.visitLabel(entered);
+
+        mv.visitVarInsn(ALOAD, EventDispatcherGenerator.EVENT_INDEX);
+        mv.visitFieldInsn(GETSTATIC, Type.getInternalName(Order.class), listener.getOrder().name(), EventDispatcherGenerator.ORDER);
+        mv.visitMethodInsn(INVOKESTATIC, EventDispatcherGenerator.DISPATCHER, "order",
+            '(' + EventDispatcherGenerator.EVENT + EventDispatcherGenerator.ORDER + ")V", false);
+
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, name, EventDispatcherGenerator.fieldName(index), descriptor);
+        if (filtered) {
+            mv.visitVarInsn(ALOAD, EventDispatcherGenerator.ARGS_INDEX);
+            mv.visitMethodInsn(INVOKEVIRTUAL, EventDispatcherGenerator.FILTERED_LISTENER, "invoke", "([Ljava/lang/Object;)V", false);
+        } else {
+            mv.visitVarInsn(ALOAD, EventDispatcherGenerator.EVENT_INDEX);
+            mv.visitMethodInsn(INVOKEINTERFACE, EventDispatcherGenerator.EVENT_LISTENER, "handle",
+                '(' + EventDispatcherGenerator.EVENT + ")V", true);
+        }
+        mv.visitLabel(end);
+        mv.visitJumpInsn(GOTO, next);
+
+        mv.visitLabel(handler);
+        mv.visitVarInsn(ASTORE, EventDispatcherGenerator.ERROR_INDEX);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, EventDispatcherGenerator.EVENT_INDEX);
+        mv.visitIntInsn(SIPUSH, index);
+        mv.visitVarInsn(ALOAD, EventDispatcherGenerator.ERROR_INDEX);
+        mv.visitMethodInsn(INVOKEVIRTUAL, EventDispatcherGenerator.DISPATCHER, "error",
+            '(' + EventDispatcherGenerator.EVENT + "ILjava/lang/Throwable;)V", false);
+        mv.visitLabel(next);
+    }
+
+}
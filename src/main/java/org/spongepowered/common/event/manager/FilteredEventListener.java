@@ -0,0 +1,70 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Event;
+
+/**
+ * An {@link AnnotatedEventListener} whose generated filter can be evaluated
+ * separately from the invocation of the listener method.
+ *
+ * <p>This allows a dispatcher to determine whether the listener will accept
+ * an event before performing any of the cause frame or phase setup that would
+ * otherwise be wasted on a rejected event.</p>
+ */
+public abstract class FilteredEventListener extends AnnotatedEventListener {
+
+    protected FilteredEventListener(final Object handle) {
+        super(handle);
+    }
+
+    /**
+     * Evaluates the filter of this listener against the given event.
+     *
+     * @param event The event
+     * @return The arguments to invoke the listener method with, or
+     *     {@code null} if the event was rejected by the filter
+     */
+    public abstract Object @Nullable [] filter(Event event);
+
+    /**
+     * Invokes the listener method with the arguments previously produced
+     * by {@link #filter(Event)}.
+     *
+     * @param args The filtered arguments
+     * @throws Exception If the listener method throws an exception
+     */
+    public abstract void invoke(Object[] args) throws Exception;
+
+    @Override
+    public final void handle(final Event event) throws Exception {
+        final Object @Nullable [] args = this.filter(event);
+        if (args != null) {
+            this.invoke(args);
+        }
+    }
+
+}
@@ -24,11 +24,13 @@
  */
 package org.spongepowered.common.event.manager;
 
-
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Order;
 import org.spongepowered.common.event.SpongeEventListener;
+import org.spongepowered.common.timings.SpongeTimings;
+import org.spongepowered.common.timings.Timing;
 import org.spongepowered.plugin.PluginContainer;
 
 import java.util.ArrayList;
@@ -48,13 +50,21 @@
 
     private final boolean beforeModifications;
 
+    // The listener method of an annotated listener, to tell apart the timings
+    // of several listeners in one class for the same event
+    private final @Nullable String methodName;
+
+    private @Nullable Timing timing;
+
     RegisteredListener(
-            final PluginContainer plugin, final EventType<T> eventType, final Order order, final EventListener<? super T> listener, final boolean beforeModifications) {
+            final PluginContainer plugin, final EventType<T> eventType, final Order order, final EventListener<? super T> listener,
+            final boolean beforeModifications, final @Nullable String methodName) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
         this.eventType = Objects.requireNonNull(eventType, "eventType");
         this.order = Objects.requireNonNull(order, "order");
         this.listener = Objects.requireNonNull(listener, "listener");
         this.beforeModifications = beforeModifications;
+        this.methodName = methodName;
     }
 
     public PluginContainer getPlugin() {
@@ -73,6 +83,10 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    EventListener<? super T> listener() {
+        return this.listener;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -82,6 +96,22 @@ public Object getHandle() {
         return this.listener;
     }
 
+    /**
+     * Gets the timing that records the time spent in this listener.
+     *
+     * @return The timing
+     */
+    public Timing timing() {
+        Timing timing = this.timing;
+        if (timing == null) {
+            final String handle = this.getHandle().getClass().getSimpleName();
+            timing = SpongeTimings.of(this.plugin, "Event: " + this.eventType.getType().getSimpleName()
+                + " (" + (this.methodName == null ? handle : handle + "#" + this.methodName) + ")");
+            this.timing = timing;
+        }
+        return timing;
+    }
+
     @Override
     public void handle(final T event) throws Exception {
         this.listener.handle(event);
@@ -98,9 +128,15 @@ public static final class Cache {
         private final List<RegisteredListener<?>> beforeModifications = new ArrayList<>();
         private final List<RegisteredListener<?>> afterModifications = new ArrayList<>();
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        private final @Nullable CompiledEventDispatcher dispatcher;
 
         Cache(final List<RegisteredListener<?>> listeners) {
+            this(listeners, null);
+        }
+
+        Cache(final List<RegisteredListener<?>> listeners, final @Nullable CompiledEventDispatcher dispatcher) {
             this.listeners = listeners;
+            this.dispatcher = dispatcher;
 
             this.listenersByOrder = new EnumMap<>(Order.class);
             for (final RegisteredListener<?> handler : listeners) {
@@ -118,6 +154,16 @@ public List<RegisteredListener<?>> getListeners() {
             return this.listeners;
         }
 
+        /**
+         * Gets the compiled dispatcher for these listeners, if compiled
+         * event dispatch is enabled and the listeners could be compiled.
+         *
+         * @return The compiled dispatcher, or {@code null}
+         */
+        public @Nullable CompiledEventDispatcher dispatcher() {
+            return this.dispatcher;
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(final Order order) {
             final List<RegisteredListener<?>> list = this.listenersByOrder.get(Objects.requireNonNull(order, "order"));
             if (list == null) {
@@ -24,8 +24,6 @@
  */
 package org.spongepowered.common.event.manager;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import io.leangen.geantyref.GenericTypeReflector;
@@ -44,6 +42,7 @@
 import org.spongepowered.api.event.impl.AbstractEvent;
 import org.spongepowered.api.event.item.inventory.container.InteractContainerEvent;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.world.inventory.container.ContainerBridge;
 import org.spongepowered.common.event.ListenerLookups;
 import org.spongepowered.common.event.ShouldFire;
@@ -52,19 +51,20 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.EventListenerPhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.timings.SpongeTimings;
 import org.spongepowered.common.util.TypeTokenUtil;
 import org.spongepowered.configurate.util.Types;
 import org.spongepowered.plugin.PluginContainer;
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -73,7 +73,6 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public abstract class SpongeEventManager implements EventManager {
 
@@ -84,11 +83,21 @@ public abstract class SpongeEventManager implements EventManager {
     private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent;
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Entries are only ever replaced while holding the lock, after being
+     * re-baked on the registering thread, so posting never observes a missing
+     * entry for an event type that was already baked.</p>
      */
-    protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
-            Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    private final Map<EventType<?>, RegisteredListener.Cache> handlersCache = new ConcurrentHashMap<>(150, 0.75f, 1);
+    /**
+     * The erased event supertypes of every baked event type, computed once
+     * so that re-baking does not need to walk the type hierarchy again.
+     */
+    private final Map<EventType<?>, List<Class<?>>> bakedSuperTypes = new HashMap<>(150);
+    /**
+     * A reverse index from each raw event class to the baked event types
+     * which include the listeners of that class.
+     */
+    private final Multimap<Class<?>, EventType<?>> bakedTypesByEvent = HashMultimap.create();
     private final Set<Object> registeredListeners;
 
     public SpongeEventManager() {
@@ -96,30 +105,6 @@ public SpongeEventManager() {
         this.handlersByEvent = HashMultimap.create();
         this.registeredListeners = new ReferenceOpenHashSet<>();
         this.checker = new ListenerChecker(ShouldFire.class);
-
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            final Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            final Object innerCacheValue = innerCache.get(this.handlersCache);
-            final Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            final Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            final ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData =
-                    new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (final NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            SpongeCommon.logger().warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            SpongeCommon.logger().warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
-        }
     }
 
     private static @Nullable String getHandlerErrorOrNull(final ListenerClassVisitor.DiscoveredMethod method) throws
@@ -150,77 +135,103 @@ public SpongeEventManager() {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
-            final Order order, final boolean beforeModifications, final EventListener<? super T> handler) {
+            final Order order, final boolean beforeModifications, final EventListener<? super T> handler, final @Nullable String methodName) {
         @Nullable Type genericType = null;
         final Class<?> erased = GenericTypeReflector.erase(eventType);
         if (GenericEvent.class.isAssignableFrom(erased)) {
             genericType = TypeTokenUtil.typeArgumentFromSupertype(eventType, GenericEvent.class, 0);
         }
-        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications);
+        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications, methodName);
     }
 
-    <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType) {
+    private RegisteredListener.Cache getOrBakeHandlers(final EventType<?> eventType) {
+        final RegisteredListener.@Nullable Cache cache = this.handlersCache.get(eventType);
+        if (cache != null) {
+            return cache;
+        }
+        synchronized (this.lock) {
+            return this.handlersCache.computeIfAbsent(eventType, type -> {
+                final List<Class<?>> types = Types.allSuperTypesAndInterfaces(type.getType())
+                        .map(GenericTypeReflector::erase)
+                        .filter(Event.class::isAssignableFrom)
+                        .distinct()
+                        .collect(Collectors.toList());
+                this.bakedSuperTypes.put(type, types);
+                for (final Class<?> superType : types) {
+                    this.bakedTypesByEvent.put(superType, type);
+                }
+                return this.bakeHandlers(type, types);
+            });
+        }
+    }
+
+    private RegisteredListener.Cache bakeHandlers(final EventType<?> eventType, final List<Class<?>> types) {
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
-        final Stream<? extends Class<?>> types = Types.allSuperTypesAndInterfaces(eventType.getType())
-                .map(GenericTypeReflector::erase)
-                .filter(Event.class::isAssignableFrom);
 
         // TODO: Move @Includes and @Excludes from filters to the baking process, this simplifies the generated
         //       filter code and makes the filter baking target more specific handlers.
-        synchronized (this.lock) {
-            for (final Iterator<? extends Class<?>> it = types.iterator(); it.hasNext(); ) {
-                final Class<?> type = it.next();
-                final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
-                if (GenericEvent.class.isAssignableFrom(type)) {
-                    final Type genericType = Objects.requireNonNull(eventType.getGenericType());
-                    for (final RegisteredListener<?> listener : listeners) {
-                        final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
-                        if (TypeTokenUtil.isAssignable(genericType, genericType1)) {
-                            handlers.add(listener);
-                        }
+        for (final Class<?> type : types) {
+            final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
+            if (GenericEvent.class.isAssignableFrom(type)) {
+                final Type genericType = Objects.requireNonNull(eventType.getGenericType());
+                for (final RegisteredListener<?> listener : listeners) {
+                    final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
+                    if (TypeTokenUtil.isAssignable(genericType, genericType1)) {
+                        handlers.add(listener);
                     }
-                } else {
-                    handlers.addAll(listeners);
                 }
+            } else {
+                handlers.addAll(listeners);
             }
         }
 
         Collections.sort(handlers);
+        if (SpongeConfigs.getCommon().get().optimizations.compiledEventDispatch) {
+            return new RegisteredListener.Cache(handlers, EventDispatcherGenerator.compile(eventType, handlers));
+        }
         return new RegisteredListener.Cache(handlers);
     }
 
-    private void register(final List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
+    /**
+     * Re-bakes the caches of every baked event type that includes listeners
+     * of the given raw event classes, replacing each cache in place.
+     *
+     * <p>Must be called while holding the lock.</p>
+     *
+     * @param changed The raw event classes whose listeners changed
+     */
+    private void rebakeHandlers(final Set<Class<?>> changed) {
+        final Set<EventType<?>> affected = new HashSet<>();
+        for (final Class<?> raw : changed) {
+            affected.addAll(this.bakedTypesByEvent.get(raw));
+        }
+        for (final EventType<?> eventType : affected) {
+            this.handlersCache.put(eventType, this.bakeHandlers(eventType, this.bakedSuperTypes.get(eventType)));
+        }
+    }
 
+    private void register(final List<RegisteredListener<? extends Event>> handlers) {
         synchronized (this.lock) {
+            final Set<Class<?>> changed = new HashSet<>();
             for (final RegisteredListener<?> handler : handlers) {
                 final Class<?> raw = handler.getEventType().getType();
                 if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
+                    changed.add(raw);
                     this.checker.registerListenerFor(raw);
                 }
             }
-        }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            this.rebakeHandlers(changed);
         }
     }
 
     private void register(final RegisteredListener<? extends Event> handler) {
-        boolean changed = false;
-
         synchronized (this.lock) {
             final Class<?> raw = handler.getEventType().getType();
             if (this.handlersByEvent.put(raw, handler)) {
-                changed = true;
                 this.checker.registerListenerFor(raw);
+                this.rebakeHandlers(Collections.singleton(raw));
             }
         }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
-        }
     }
 
     private void registerListener(final PluginContainer plugin, final Object listenerObject,
@@ -267,7 +278,7 @@ private void registerListener(final PluginContainer plugin, final Object listene
                     }
 
                     handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener.order(), listener.beforeModifications(),
-                        handler));
+                        handler, method.methodName()));
                 } else {
                     methodErrors.put(method, error);
                 }
@@ -317,7 +328,7 @@ private void registerListener(final PluginContainer plugin, final Object listene
     public <E extends Event> EventManager registerListener(final EventListenerRegistration<E> registration) {
         Objects.requireNonNull(registration, "registration");
         final RegisteredListener<E> handler = SpongeEventManager.createRegistration(registration.plugin(),
-                registration.eventType(), registration.order(), registration.beforeModifications(), registration.listener());
+                registration.eventType(), registration.order(), registration.beforeModifications(), registration.listener(), null);
         this.register(handler);
         return this;
     }
@@ -345,23 +356,19 @@ public SpongeEventManager registerListeners(final PluginContainer plugin, final
     }
 
     private void unregister(final Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
-
         synchronized (this.lock) {
+            final Set<Class<?>> changed = new HashSet<>();
             final Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
             while (itr.hasNext()) {
                 final RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changed.add(handler.getEventType().getType());
                     this.checker.unregisterListenerFor(handler.getEventType().getType());
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
-        }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            this.rebakeHandlers(changed);
         }
     }
 
@@ -385,7 +392,7 @@ protected RegisteredListener.Cache getHandlerCache(final Event event) {
         } else {
             eventType = new EventType(eventClass, null);
         }
-        return this.handlersCache.get(eventType);
+        return this.getOrBakeHandlers(eventType);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -402,7 +409,13 @@ protected final boolean post(final Event event, final List<RegisteredListener<?>
                 if (event instanceof AbstractEvent) {
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
                 }
-                handler.handle(event);
+                final long start = SpongeTimings.start();
+                try {
+                    handler.handle(event);
+                } finally {
+                    // Time listeners that throw as well, they tend to be the slow ones
+                    handler.timing().stop(start);
+                }
             } catch (final Throwable e) {
                 SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().metadata().id(), e);
             }
@@ -432,7 +445,14 @@ public boolean post(final Event event) {
             // Allow the client thread by default so devs can actually
             // call their own events inside the init events. Only allowing
             // this as long that there is no server available
-            return this.post(event, this.getHandlerCache(event).getListeners());
+            final RegisteredListener.Cache cache = this.getHandlerCache(event);
+            final @Nullable CompiledEventDispatcher dispatcher = cache.dispatcher();
+            // Compiled dispatchers call listeners directly, so fall back to the
+            // listener list while timings are recorded per listener
+            if (dispatcher != null && !SpongeTimings.isEnabled()) {
+                return dispatcher.post(event);
+            }
+            return this.post(event, cache.getListeners());
         }
     }
 
@@ -75,6 +75,7 @@
 import org.spongepowered.common.event.tracking.phase.tick.LocationBasedTickContext;
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 import org.spongepowered.common.world.BlockChange;
+import org.spongepowered.common.world.volume.BulkBlockChanges;
 
 import java.util.ArrayDeque;
 import java.util.List;
@@ -408,6 +409,19 @@ default boolean isApplyingStreams() {
         return false;
     }
 
+    /**
+     * Gets the {@link BulkBlockChanges} that block changes to the given level
+     * should be written through instead of being captured as transactions, if
+     * this state applies changes in bulk.
+     *
+     * @param context The context
+     * @param level The level being changed
+     * @return The bulk changes, or null if changes are captured as usual
+     */
+    default @Nullable BulkBlockChanges bulkBlockChanges(final C context, final ServerLevel level) {
+        return null;
+    }
+
     default Supplier<ResourceKey> attemptWorldKey(final C context) {
         return () -> {
             throw new IllegalStateException("Unable to provide a ServerLevel");
@@ -64,6 +64,7 @@
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
 import org.spongepowered.common.event.tracking.phase.tick.LocationBasedTickContext;
 import org.spongepowered.common.world.BlockChange;
+import org.spongepowered.common.world.volume.BulkBlockChanges;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -315,6 +316,10 @@ default boolean isApplyingStreams() {
         return this.getState().isApplyingStreams();
     }
 
+    default @Nullable BulkBlockChanges bulkBlockChanges(final ServerLevel level) {
+        return this.getState().bulkBlockChanges(this.asContext(), level);
+    }
+
     default Supplier<ResourceKey> attemptWorldKey() {
         return this.getState().attemptWorldKey(this.asContext());
     }
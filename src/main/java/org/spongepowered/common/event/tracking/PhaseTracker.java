@@ -510,7 +510,6 @@ public EventContext currentContext() {
     public CauseStackManager pushCause(final Object obj) {
         Objects.requireNonNull(obj, "obj");
         this.enforceMainThread();
-        this.cached_cause = null;
         if (this.cause.peek() == obj) {
             // We don't want to be pushing duplicate objects
             // to the root and secondary entry of the cause.
@@ -528,6 +527,7 @@ public CauseStackManager pushCause(final Object obj) {
             this.duplicateCauses[dupedIndex] = this.duplicateCauses[dupedIndex] + 1;
             return this;
         }
+        this.invalidateCause();
         this.cause.push(obj);
         return this;
     }
@@ -548,7 +548,7 @@ public Object popCause() {
             throw new IllegalStateException("Cause stack corruption, tried to pop more objects off than were pushed since last frame (Size was "
                                                 + size + " but mid depth is " + this.min_depth + ")");
         }
-        this.cached_cause = null;
+        this.invalidateCause();
         return this.cause.pop();
     }
 
@@ -663,8 +663,6 @@ public void popCauseFrame(final StackFrame oldFrame) {
 
         // Remove new values
         for (final Map.Entry<EventContextKey<?>, Object> entry : frame.getOriginalContextDelta().entrySet()) {
-            this.cached_ctx = null;
-            this.cached_cause = null;
             if (entry.getValue() == null) { // wasn't present before, remove
                 this.ctx.remove(entry.getKey());
             } else { // was there, replace
@@ -685,11 +683,14 @@ public void popCauseFrame(final StackFrame oldFrame) {
                 this.duplicateCauses[index] = 0;
             }
             this.cause.pop();
-
-            // and clear the cached causes
-            this.cached_cause = null;
         }
         this.min_depth = frame.old_min_depth;
+        // The cause and context are now exactly what they were when the frame was pushed,
+        // so whatever was cached before the frame first changed anything is valid again.
+        if (frame.cacheStashed) {
+            this.cached_cause = frame.stashedCause;
+            this.cached_ctx = frame.stashedContext;
+        }
         final int size = this.cause.size();
         if (this.duplicateCauses.length > size) {
             // Then set the last cause index to whatever the size of the entry was at the time.
@@ -710,9 +711,10 @@ public <T> CauseStackManager addContext(final EventContextKey<T> key, final T va
         Objects.requireNonNull(key, "key");
         Objects.requireNonNull(value, "value");
         this.enforceMainThread();
-        this.cached_ctx = null;
-        this.cached_cause = null;
         final @Nullable Object existing = this.ctx.put(key, value);
+        if (existing != value) {
+            this.invalidateContext();
+        }
         if (!this.frames.isEmpty()) {
             this.frames.peek().storeOriginalContext(key, existing);
         }
@@ -730,15 +732,41 @@ public <T> Optional<T> context(final EventContextKey<T> key) {
     public <T> Optional<T> removeContext(final EventContextKey<T> key) {
         Objects.requireNonNull(key, "key");
         this.enforceMainThread();
-        this.cached_ctx = null;
-        this.cached_cause = null;
         final Object existing = this.ctx.remove(key);
+        if (existing != null) {
+            this.invalidateContext();
+        }
         if (!this.frames.isEmpty()) {
             this.frames.peek().storeOriginalContext(key, existing);
         }
         return Optional.ofNullable((T) existing);
     }
 
+    private void invalidateCause() {
+        this.stashCaches();
+        this.cached_cause = null;
+    }
+
+    private void invalidateContext() {
+        this.stashCaches();
+        this.cached_ctx = null;
+        this.cached_cause = null;
+    }
+
+    /**
+     * Remembers the cached cause and context on the top frame before the
+     * first change made within it, popping the frame restores exactly that
+     * state so the caches can be reused instead of rebuilding the cause.
+     */
+    private void stashCaches() {
+        final @Nullable SpongeCauseStackFrame frame = this.frames.peek();
+        if (frame != null && !frame.cacheStashed) {
+            frame.cacheStashed = true;
+            frame.stashedCause = this.cached_cause;
+            frame.stashedContext = this.cached_ctx;
+        }
+    }
+
     private void enforceMainThread() {
         // On clients, this may not be available immediately, we can't bomb out that early.
         if (Thread.currentThread() != this.getSidedThread()) {
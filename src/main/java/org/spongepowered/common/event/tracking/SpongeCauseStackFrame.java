@@ -43,6 +43,10 @@ public final class SpongeCauseStackFrame implements CauseStackManager.StackFrame
     private final Map<EventContextKey<?>, Object> storedContext;
     int old_min_depth;
     int lastCauseSize;
+    // The caches of the tracker from before this frame first changed the cause or context
+    boolean cacheStashed;
+    @Nullable Cause stashedCause;
+    @Nullable EventContext stashedContext;
 
     @Nullable Exception stackDebug = null;
 
@@ -58,6 +62,9 @@ public void clear() {
         this.storedContext.clear();
         this.lastCauseSize = -1;
         this.old_min_depth = -1;
+        this.cacheStashed = false;
+        this.stashedCause = null;
+        this.stashedContext = null;
         this.stackDebug = null;
     }
 
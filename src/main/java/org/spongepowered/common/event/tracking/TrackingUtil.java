@@ -74,6 +74,7 @@
 import org.spongepowered.common.event.tracking.phase.tick.FluidTickContext;
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 import org.spongepowered.common.event.tracking.phase.tick.TileEntityTickContext;
+import org.spongepowered.common.timings.SpongeTimings;
 import org.spongepowered.common.util.Preconditions;
 import org.spongepowered.common.util.PrettyPrinter;
 import org.spongepowered.common.util.VecHelper;
@@ -118,7 +119,12 @@ public static void tickEntity(final Consumer<net.minecraft.world.entity.Entity>
             }
             context.buildAndSwitch();
             PhaseTracker.LOGGER.trace(TrackingUtil.ENTITY_TICK, () -> "Wrapping Entity Tick: " + entity.toString());
-            consumer.accept(entity);
+            final long start = SpongeTimings.start();
+            try {
+                consumer.accept(entity);
+            } finally {
+                SpongeTimings.TICK_ENTITY.stop(start);
+            }
             if (ShouldFire.MOVE_ENTITY_EVENT) {
                 SpongeCommonEventFactory.callNaturalMoveEntityEvent(entity);
             }
@@ -179,7 +185,12 @@ public static void tickTileEntity(final TrackedWorldBridge mixinWorldServer, fin
             phaseContext.buildAndSwitch();
 
             PhaseTracker.LOGGER.trace(TrackingUtil.BLOCK_ENTITY_TICK, () -> "Wrapping Entity Tick: " + tile.toString());
-            tile.tick();
+            final long start = SpongeTimings.start();
+            try {
+                tile.tick();
+            } finally {
+                SpongeTimings.TICK_BLOCK_ENTITY.stop(start);
+            }
 
             // If we know the viewers force broadcast now to associate the inventory change with its blockentity
             // otherwise the viewing players update this during their ticking
@@ -225,7 +236,12 @@ public static void updateTickBlock(
         try (final PhaseContext<@NonNull ?> context = phaseContext) {
             context.buildAndSwitch();
             PhaseTracker.LOGGER.trace(TrackingUtil.BLOCK_TICK, () -> "Wrapping Block Tick: " + block.toString());
-            block.tick(world, pos, random);
+            final long start = SpongeTimings.start();
+            try {
+                block.tick(world, pos, random);
+            } finally {
+                SpongeTimings.TICK_BLOCK.stop(start);
+            }
         } catch (final Exception | NoClassDefFoundError e) {
             PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, phaseContext);
 
@@ -261,7 +277,12 @@ public static void updateTickFluid(
         try (final PhaseContext<?> context = phaseContext) {
             context.buildAndSwitch();
             PhaseTracker.LOGGER.trace(TrackingUtil.FLUID_TICK, () -> "Wrapping Fluid Tick: " + fluidState.toString());
-            fluidState.tick(world, pos);
+            final long start = SpongeTimings.start();
+            try {
+                fluidState.tick(world, pos);
+            } finally {
+                SpongeTimings.TICK_FLUID.stop(start);
+            }
         } catch (final Exception | NoClassDefFoundError e) {
             PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, phaseContext);
 
@@ -299,7 +320,12 @@ public static void randomTickBlock(final TrackedWorldBridge mixinWorld,
         try (final PhaseContext<@NonNull ?> context = phaseContext) {
             context.buildAndSwitch();
             PhaseTracker.LOGGER.trace(TrackingUtil.BLOCK_TICK, "Wrapping Random Block Tick: {}", state);
-            state.randomTick(world, pos, random);
+            final long start = SpongeTimings.start();
+            try {
+                state.randomTick(world, pos, random);
+            } finally {
+                SpongeTimings.TICK_RANDOM_BLOCK.stop(start);
+            }
         } catch (final Exception | NoClassDefFoundError e) {
             PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, phaseContext);
         }
@@ -338,7 +364,12 @@ public static void randomTickFluid(final TrackedWorldBridge mixinWorld,
         try (final PhaseContext<@NonNull ?> context = phaseContext) {
             context.buildAndSwitch();
             PhaseTracker.LOGGER.trace(TrackingUtil.FLUID_TICK, () -> "Wrapping Random Fluid Tick: " + state.toString());
-            state.randomTick(world, pos, random);
+            final long start = SpongeTimings.start();
+            try {
+                state.randomTick(world, pos, random);
+            } finally {
+                SpongeTimings.TICK_RANDOM_FLUID.stop(start);
+            }
         } catch (final Exception | NoClassDefFoundError e) {
             PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, phaseContext);
         }
@@ -378,12 +409,12 @@ private TrackingUtil() {
 
     public static @Nullable UUID getNotifierOrOwnerFromBlock(final ServerLevel world, final BlockPos blockPos) {
         final LevelChunkBridge mixinChunk = (LevelChunkBridge) world.getChunkAt(blockPos);
-        final UUID notifier = mixinChunk.bridge$getBlockNotifierUUID(blockPos).orElse(null);
+        final UUID notifier = mixinChunk.bridge$getBlockNotifier(blockPos);
         if (notifier != null) {
             return notifier;
         }
 
-        return mixinChunk.bridge$getBlockCreatorUUID(blockPos).orElse(null);
+        return mixinChunk.bridge$getBlockCreator(blockPos);
     }
 
     public static Supplier<IllegalStateException> throwWithContext(final String s, final PhaseContext<?> phaseContext) {
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.event.tracking.phase.plugin;
 
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -32,9 +33,11 @@
 import org.spongepowered.api.event.cause.entity.SpawnType;
 import org.spongepowered.api.event.cause.entity.SpawnTypes;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
+import org.spongepowered.common.world.volume.BulkBlockChanges;
 
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -61,6 +64,9 @@ public BiConsumer<CauseStackManager.StackFrame, Context> getFrameModifier() {
 
     @Override
     public void unwind(final Context phaseContext) {
+        if (phaseContext.bulkChanges != null) {
+            phaseContext.bulkChanges.finish();
+        }
         TrackingUtil.processBlockCaptures(phaseContext);
     }
 
@@ -76,10 +82,26 @@ public boolean isApplyingStreams() {
         return true;
     }
 
+    @Override
+    public @Nullable BulkBlockChanges bulkBlockChanges(final Context context, final ServerLevel level) {
+        if (context.bulkChanges != null && context.bulkChanges.level() == level) {
+            return context.bulkChanges;
+        }
+        if (!SpongeConfigs.getCommon().get().optimizations.bulkVolumeStreamApplication) {
+            return null;
+        }
+        if (context.bulkChanges != null) {
+            context.bulkChanges.finish();
+        }
+        context.bulkChanges = new BulkBlockChanges(level);
+        return context.bulkChanges;
+    }
+
     public static class Context extends PluginPhaseContext<Context> {
 
         @MonotonicNonNull VolumeStream<@NonNull ?, ?> stream;
         @MonotonicNonNull Supplier<SpawnType> spawnTypeSupplier;
+        @Nullable BulkBlockChanges bulkChanges;
 
         Context(final IPhaseState<Context> phaseState, final PhaseTracker tracker) {
             super(phaseState, tracker);
@@ -107,6 +129,7 @@ protected void reset() {
             super.reset();
             this.stream = null;
             this.spawnTypeSupplier = null;
+            this.bulkChanges = null;
         }
     }
 }
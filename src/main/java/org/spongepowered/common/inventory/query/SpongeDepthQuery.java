@@ -24,12 +24,15 @@
  */
 package org.spongepowered.common.inventory.query;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -39,8 +42,30 @@
  */
 public abstract class SpongeDepthQuery extends SpongeQuery {
 
+    /**
+     * Search results of structural queries per root lens. Lens trees are
+     * shared between all inventories of the same type and size, so the same
+     * results can be reused by every inventory using that lens. Bounded as
+     * lenses built for query results are not shared.
+     */
+    private static final Cache<CachedSearch, Map<Lens, Integer>> STRUCTURAL_MATCHES = Caffeine.newBuilder()
+        .maximumSize(4096)
+        .build();
+
     public abstract boolean matches(Lens lens, Lens parent, Inventory inventory);
 
+    /**
+     * Whether this query only matches on the shape of the lens tree and never
+     * on the contents of the inventory. Structural queries have their search
+     * results cached per root lens and must implement {@link #equals(Object)}
+     * and {@link #hashCode()} so equal queries share the cached results.
+     *
+     * @return Whether this query is structural
+     */
+    public boolean isStructural() {
+        return false;
+    }
+
     public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         final Fabric fabric = adapter.inventoryAdapter$getFabric();
         final Lens lens = adapter.inventoryAdapter$getRootLens();
@@ -49,7 +74,17 @@ public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
             return lens.getAdapter(fabric, inventory);
         }
 
-        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.search(inventory, lens)));
+    }
+
+    private Map<Lens, Integer> search(Inventory inventory, Lens lens) {
+        if (!this.isStructural()) {
+            return this.depthFirstSearch(inventory, lens);
+        }
+        final Map<Lens, Integer> matches = SpongeDepthQuery.STRUCTURAL_MATCHES.get(new CachedSearch(lens, this),
+            k -> Collections.unmodifiableMap(this.depthFirstSearch(inventory, lens)));
+        // reduce modifies the matches it is given
+        return matches.isEmpty() ? matches : new LinkedHashMap<>(matches);
     }
 
     private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
@@ -73,4 +108,8 @@ private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
 
         return matches;
     }
+
+    private record CachedSearch(Lens lens, SpongeDepthQuery query) {
+    }
+
 }
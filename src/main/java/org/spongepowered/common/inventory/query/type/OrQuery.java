@@ -65,4 +65,30 @@ public boolean matches(Lens lens, Lens parent, Inventory inventory) {
         }
         return false;
     }
+
+    @Override
+    public boolean isStructural() {
+        for (Query orQuery : this.orQueries) {
+            if (orQuery instanceof SpongeDepthQuery && !((SpongeDepthQuery) orQuery).isStructural()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        return this.orQueries.equals(((OrQuery) o).orQueries);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.orQueries.hashCode();
+    }
 }
@@ -59,6 +59,7 @@
 import org.spongepowered.common.accessor.world.inventory.ResultSlotAccessor;
 import org.spongepowered.common.bridge.world.inventory.InventoryBridge;
 import org.spongepowered.common.bridge.world.inventory.container.ContainerBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.inventory.SpongeBlockEntityCarrier;
@@ -91,6 +92,23 @@ public final class ContainerUtil {
     private ContainerUtil() {
     }
 
+    /**
+     * Gets whether slot transactions of containers need to be captured, which
+     * is the case if any event a container transaction can fire has listeners.
+     * Besides slot and container events, dropping items out of a container
+     * fires a {@code ClickContainerEvent.Drop}, which listeners of
+     * {@code SpawnEntityEvent} and {@code DropItemEvent} receive as well and
+     * which needs the slot transactions to restore the slots when cancelled.
+     *
+     * @return True if slot transactions should be captured
+     */
+    public static boolean shouldCaptureSlotTransactions() {
+        return ShouldFire.AFFECT_SLOT_EVENT
+            || ShouldFire.INTERACT_CONTAINER_EVENT
+            || ShouldFire.SPAWN_ENTITY_EVENT
+            || ShouldFire.DROP_ITEM_EVENT;
+    }
+
     // Note this is likely not doable throughout the implementation, only in certain cases
 
     public static Container fromNative(final net.minecraft.world.inventory.AbstractContainerMenu container) {
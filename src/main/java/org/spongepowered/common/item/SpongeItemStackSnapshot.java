@@ -25,11 +25,11 @@
 package org.spongepowered.common.item;
 
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.world.item.Item;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
@@ -63,6 +63,15 @@
 import java.util.function.UnaryOperator;
 
 
+/**
+ * An immutable view of an {@link ItemStack}.
+ *
+ * <p>Only the item type, quantity and the component patch of the original
+ * stack are captured, the patch being immutable and shared copy-on-write
+ * with the source stack. The backing stack is only rebuilt once something
+ * actually queries the snapshot, which keeps the very large amount of
+ * snapshots taken for inventory transactions cheap.</p>
+ */
 @SuppressWarnings("unchecked")
 public class SpongeItemStackSnapshot implements ItemStackSnapshot {
 
@@ -71,42 +80,57 @@ public class SpongeItemStackSnapshot implements ItemStackSnapshot {
     private final ItemType itemType;
     private final int quantity;
     private final int damageValue;
-    private final ImmutableList<DataManipulator.Immutable> manipulators;
-    private final transient ItemStack privateStack; // only for internal use since the processors have a huge say
-    private final ImmutableSet<Key<?>> keys;
-    private final ImmutableSet<org.spongepowered.api.data.value.Value.Immutable<?>> values;
+    private final boolean empty;
     private final DataComponentPatch components;
+    private final DataManipulator.@Nullable Immutable customData;
+    private transient volatile @Nullable ItemStack privateStack; // only for internal use since the processors have a huge say
+    private transient volatile @Nullable ImmutableSet<Key<?>> keys;
+    private transient volatile @Nullable ImmutableSet<org.spongepowered.api.data.value.Value.Immutable<?>> values;
     private @Nullable UUID creatorUniqueId;
 
     @SuppressWarnings({"EqualsBetweenInconvertibleTypes", "ConstantConditions"})
     public SpongeItemStackSnapshot(final ItemStack itemStack) {
         java.util.Objects.requireNonNull(itemStack);
-        if (ItemStackUtil.toNative(itemStack) == net.minecraft.world.item.ItemStack.EMPTY) {
-            this.itemType = itemStack.type();
+        final net.minecraft.world.item.ItemStack nativeStack = ItemStackUtil.toNative(itemStack);
+        this.itemType = itemStack.type();
+        if (nativeStack == net.minecraft.world.item.ItemStack.EMPTY) {
             this.quantity = 0;
             this.damageValue = 0;
-            this.manipulators = ImmutableList.of();
-            this.privateStack = itemStack;
-            this.keys = ImmutableSet.of();
-            this.values = ImmutableSet.of();
+            this.empty = true;
             this.components = DataComponentPatch.EMPTY;
+            this.customData = null;
+            this.privateStack = itemStack;
             return;
         }
-        this.itemType = itemStack.type();
         this.quantity = itemStack.quantity();
-        final ImmutableList.Builder<DataManipulator.Immutable> builder = ImmutableList.builder();
-        final ImmutableSet.Builder<Key<?>> keyBuilder = ImmutableSet.builder();
-        final ImmutableSet.Builder<org.spongepowered.api.data.value.Value.Immutable<?>> valueBuilder = ImmutableSet.builder();
+        this.damageValue = nativeStack.getDamageValue();
+        this.empty = nativeStack.isEmpty();
+        this.components = nativeStack.getComponentsPatch();
+        // Custom data is kept in sync with the custom data component, but values
+        // without a data store only live in the manipulator so those are kept too.
         final DataManipulator.Mutable customData = ((SpongeDataHolderBridge) itemStack).bridge$getManipulator();
-        builder.add(customData.asImmutable());
-        keyBuilder.addAll(customData.getKeys());
-        valueBuilder.addAll(customData.getValues());
-        this.damageValue = ItemStackUtil.toNative(itemStack).getDamageValue();
-        this.manipulators = builder.build();
-        this.privateStack = itemStack.copy();
-        this.keys = keyBuilder.build();
-        this.values = valueBuilder.build();
-        this.components = ItemStackUtil.toNative(this.privateStack).getComponentsPatch();
+        this.customData = customData.getKeys().isEmpty() ? null : customData.asImmutable();
+    }
+
+    private ItemStack stack() {
+        ItemStack stack = this.privateStack;
+        if (stack == null) {
+            stack = this.createStack();
+            this.privateStack = stack;
+        }
+        return stack;
+    }
+
+    private ItemStack createStack() {
+        if (this.empty) {
+            return ItemStackUtil.fromNative(net.minecraft.world.item.ItemStack.EMPTY);
+        }
+        final net.minecraft.world.item.ItemStack nativeStack = new net.minecraft.world.item.ItemStack(
+            ((Item) this.itemType).builtInRegistryHolder(), this.quantity, this.components);
+        if (this.customData != null) {
+            ((ItemStack) (Object) nativeStack).copyFrom(this.customData);
+        }
+        return ItemStackUtil.fromNative(nativeStack);
     }
 
     @Override
@@ -121,12 +145,12 @@ public int quantity() {
 
     @Override
     public boolean isEmpty() {
-        return this.privateStack.isEmpty();
+        return this.empty;
     }
 
     @Override
     public Collection<AttributeModifier> attributeModifiers(AttributeType attributeType, EquipmentType equipmentType) {
-        return this.privateStack.attributeModifiers(attributeType, equipmentType);
+        return this.stack().attributeModifiers(attributeType, equipmentType);
     }
 
     public boolean isNone() {
@@ -145,7 +169,7 @@ public DataContainer toContainer() {
 
     @Override
     public <E> Optional<ItemStackSnapshot> transform(final Key<? extends Value<E>> key, final Function<E, E> function) {
-        final ItemStack copy = this.privateStack.copy();
+        final ItemStack copy = this.createStack();
         final DataTransactionResult result = copy.transform(key, function);
         if (result.type() != DataTransactionResult.Type.SUCCESS) {
             return Optional.empty();
@@ -155,7 +179,7 @@ public <E> Optional<ItemStackSnapshot> transform(final Key<? extends Value<E>> k
 
     @Override
     public <E> Optional<ItemStackSnapshot> with(final Key<? extends Value<E>> key, final E value) {
-        final ItemStack copy = this.privateStack.copy();
+        final ItemStack copy = this.createStack();
         final DataTransactionResult result = copy.offer(key, value);
         if (result.type() != DataTransactionResult.Type.SUCCESS) {
             return Optional.empty();
@@ -171,29 +195,22 @@ public Optional<ItemStackSnapshot> with(final Value<?> value) {
 
     @Override
     public <E> Optional<E> get(final Key<? extends Value<E>> key) {
-        return this.privateStack.get(key);
+        return this.stack().get(key);
     }
 
     @Override
     public <E, V extends Value<E>> Optional<V> getValue(final Key<V> key) {
-        return this.privateStack.getValue(key);
+        return this.stack().getValue(key);
     }
 
     @Override
     public boolean supports(final Key<?> key) {
-        return this.privateStack.supports(key);
+        return this.stack().supports(key);
     }
 
     @Override
     public ItemStack asMutable() {
-        final net.minecraft.world.item.ItemStack nativeStack = ItemStackUtil.cloneDefensiveNative(ItemStackUtil.toNative(this.privateStack.copy()));
-        if (this.components != null) {
-            nativeStack.applyComponents(this.components);
-        }
-        for (final DataManipulator.Immutable manipulator : this.manipulators) {
-            ((ItemStack) (Object) nativeStack).copyFrom(manipulator);
-        }
-        return ItemStackUtil.fromNative(nativeStack);
+        return this.createStack();
     }
 
     @Override
@@ -213,12 +230,22 @@ public ItemStackSnapshot copy() {
 
     @Override
     public Set<Key<?>> getKeys() {
-        return this.keys;
+        ImmutableSet<Key<?>> keys = this.keys;
+        if (keys == null) {
+            keys = this.customData == null ? ImmutableSet.of() : ImmutableSet.copyOf(this.customData.getKeys());
+            this.keys = keys;
+        }
+        return keys;
     }
 
     @Override
     public Set<org.spongepowered.api.data.value.Value.Immutable<?>> getValues() {
-        return this.values;
+        ImmutableSet<org.spongepowered.api.data.value.Value.Immutable<?>> values = this.values;
+        if (values == null) {
+            values = this.customData == null ? ImmutableSet.of() : ImmutableSet.copyOf(this.customData.getValues());
+            this.values = values;
+        }
+        return values;
     }
 
     @Override
@@ -251,14 +278,14 @@ public void setCreator(final @Nullable UUID uuid) {
 
     @Override
     public ItemStackSnapshot withRawData(DataView container) throws InvalidDataException {
-        final ItemStack copy = this.privateStack.copy();
+        final ItemStack copy = this.createStack();
         copy.setRawData(container);
         return copy.asImmutable();
     }
 
     @Override
     public Optional<ItemStackSnapshot> without(Key<?> key) {
-        final ItemStack copy = this.privateStack.copy();
+        final ItemStack copy = this.createStack();
         final DataTransactionResult result = copy.remove(key);
         if (result.type() != DataTransactionResult.Type.SUCCESS) {
             return Optional.empty();
@@ -268,14 +295,14 @@ public Optional<ItemStackSnapshot> without(Key<?> key) {
 
     @Override
     public ItemStackSnapshot mergeWith(ItemStackSnapshot that, MergeFunction function) {
-        final ItemStack copy = this.privateStack.copy();
+        final ItemStack copy = this.createStack();
         copy.copyFrom(that, function);
         return copy.asImmutable();
     }
 
     @Override
     public boolean validateRawData(DataView container) {
-        final ItemStack copy = this.privateStack.copy();
+        final ItemStack copy = this.createStack();
         return copy.validateRawData(container);
     }
 
@@ -302,7 +329,7 @@ public int hashCode() {
 
     @Override
     public Component asComponent() {
-        return this.privateStack.asComponent();
+        return this.stack().asComponent();
     }
 
     @Override
@@ -28,6 +28,8 @@
 import org.apache.logging.log4j.Level;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.util.PrettyPrinter;
 
 import java.util.Set;
@@ -48,15 +50,12 @@ public final class AsyncScheduler extends SpongeScheduler {
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
     private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                                                   .setNameFormat("Sponge-AsyncScheduler-%d")
-                                                                                   .build());
+    // The dynamic thread pooling executor, or virtual thread executor, of asynchronous tasks.
+    private final ExecutorService executor = AsyncScheduler.createExecutor();
     private volatile boolean running = true;
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
 
     public AsyncScheduler() {
         super("A");
@@ -67,8 +66,36 @@ public AsyncScheduler() {
         thread.start();
     }
 
+    private static ExecutorService createExecutor() {
+        final SchedulerCategory config = SpongeConfigs.getCommon().get().scheduler;
+        if (!config.asyncVirtualThreads) {
+            return Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge-AsyncScheduler-%d")
+                    .build());
+        }
+        // The carrier pool is created with the first virtual thread, so this
+        // only applies if nothing has started a virtual thread yet. It is
+        // process wide, so the maximum pool size is left to the JDK, which
+        // keeps room for compensating carriers while threads are pinned.
+        final int carriers = config.asyncVirtualThreadCarriers > 0
+                ? config.asyncVirtualThreadCarriers
+                : Runtime.getRuntime().availableProcessors();
+        AsyncScheduler.setPropertyIfAbsent("jdk.virtualThreadScheduler.parallelism", carriers);
+        if (config.logPinnedVirtualThreads) {
+            VirtualThreadPinningMonitor.start();
+        }
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name("Sponge-AsyncScheduler-Virtual-", 0)
+                .factory());
+    }
+
+    private static void setPropertyIfAbsent(final String key, final int value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, Integer.toString(value));
+        }
+    }
+
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (this.running) {
             this.recalibrateMinimumTimeout();
             this.runTick();
@@ -78,40 +105,10 @@ private void mainLoop() {
     private void recalibrateMinimumTimeout() {
         this.lock.lock();
         try {
-            final Set<ScheduledTask> tasks = this.tasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                final long timeSinceLast = now - task.timestamp();
-
-                if (task.task.delay > 0 && task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.state().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                final long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
+            // The wait is derived from the head of the due queues, tasks
+            // which are still executing signal when they complete.
+            this.drainSubmitted();
+            this.minimumTimeout = this.nanosUntilNextTask();
         } finally {
             this.lock.unlock();
         }
@@ -122,6 +119,7 @@ protected void addTask(final SpongeScheduledTask task) {
         this.lock.lock();
         try {
             super.addTask(task);
+            this.stateChanged.set(true);
             this.condition.signalAll();
         } finally {
             this.lock.unlock();
@@ -147,11 +145,6 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
         this.lock.unlock();
@@ -214,5 +207,6 @@ public void close() {
         } catch (final InterruptedException e) {
             SpongeCommon.logger().error("The async scheduler was interrupted while awaiting shutdown!");
         }
+        VirtualThreadPinningMonitor.stop();
     }
 }
@@ -24,9 +24,12 @@
  */
 package org.spongepowered.common.scheduler;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.scheduler.Scheduler;
 import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.common.timings.SpongeTimings;
+import org.spongepowered.common.timings.Timing;
 
 import java.util.StringJoiner;
 import java.util.UUID;
@@ -40,8 +43,12 @@ public final class SpongeScheduledTask implements ScheduledTask {
     final SpongeTask task;
     private final UUID uniqueId;
     private final String name;
+    private final TaskExecutionStats stats = new TaskExecutionStats();
+    private @Nullable Timing timing;
 
     private long timestamp;
+    private long dueTimestamp;
+    private boolean tickBasedDue;
     private ScheduledTaskState state;
     private boolean isCancelled = false;
 
@@ -76,10 +83,14 @@ public String name() {
 
     @Override
     public boolean cancel() {
+        if (this.isCancelled) {
+            return false;
+        }
         final boolean success = this.state() == ScheduledTaskState.RUNNING
                 || this.state() == ScheduledTaskState.EXECUTING;
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
+        this.scheduler.removeTask(this);
         return success;
     }
 
@@ -88,6 +99,26 @@ public boolean isCancelled() {
         return this.isCancelled;
     }
 
+    /**
+     * Gets the execution time counters of this task.
+     *
+     * @return The execution counters
+     */
+    public TaskExecutionStats stats() {
+        return this.stats;
+    }
+
+    Timing timing() {
+        Timing timing = this.timing;
+        if (timing == null) {
+            // Task names are unique per submission, so share timings between
+            // tasks running the same code
+            timing = SpongeTimings.of(this.task.plugin(), "Task: " + this.task.executor().getClass().getName());
+            this.timing = timing;
+        }
+        return timing;
+    }
+
     long timestamp() {
         return this.timestamp;
     }
@@ -96,6 +127,30 @@ void setTimestamp(final long timestamp) {
         this.timestamp = timestamp;
     }
 
+    /**
+     * Returns the timestamp at which this task is next due in the queue of
+     * its scheduler. Only changed while the task is not queued.
+     *
+     * @return The due timestamp
+     */
+    long dueTimestamp() {
+        return this.dueTimestamp;
+    }
+
+    /**
+     * Returns whether {@link #dueTimestamp()} is based on ticks.
+     *
+     * @return Whether the due timestamp is tick based
+     */
+    boolean tickBasedDue() {
+        return this.tickBasedDue;
+    }
+
+    void setDue(final long dueTimestamp, final boolean tickBased) {
+        this.dueTimestamp = dueTimestamp;
+        this.tickBasedDue = tickBased;
+    }
+
     /**
      * Returns a timestamp after which the next execution will take place.
      * Should only be compared to
@@ -35,16 +35,27 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.timings.SpongeTimings;
 import org.spongepowered.plugin.PluginContainer;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -55,14 +66,30 @@
 public abstract class SpongeScheduler implements Scheduler {
 
     private static final AtomicInteger TASK_CREATED_COUNTER = new AtomicInteger();
+    private static final Comparator<SpongeScheduledTask> DUE_ORDER = Comparator.comparingLong(SpongeScheduledTask::dueTimestamp);
 
     private static final int TICK_DURATION_MS = 50;
     static final long TICK_DURATION_NS = TimeUnit.NANOSECONDS.convert(SpongeScheduler.TICK_DURATION_MS, TimeUnit.MILLISECONDS);
 
     private final String tag;
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // All pending (and running) ScheduledTasks, for lookups
     private final Map<UUID, SpongeScheduledTask> tasks = new ConcurrentHashMap<>();
+    // Tasks submitted since the last tick, drained into the due queues by the
+    // ticking thread so that tasks can be submitted from any thread
+    private final Queue<SpongeScheduledTask> submitted = new ConcurrentLinkedQueue<>();
+    // Waiting tasks ordered by the timestamp they are next due at, one queue
+    // per timestamp source. These are only touched by the ticking thread.
+    // Cancelled tasks are left in place and dropped once they reach the head.
+    private final PriorityQueue<SpongeScheduledTask> tickBasedQueue = new PriorityQueue<>(SpongeScheduler.DUE_ORDER);
+    private final PriorityQueue<SpongeScheduledTask> timeBasedQueue = new PriorityQueue<>(SpongeScheduler.DUE_ORDER);
+    // Due tasks whose previous execution had not yet finished
+    private final List<SpongeScheduledTask> overdue = new ArrayList<>();
+    // Due tasks that did not fit in the tick budget, grouped by plugin in the
+    // order the plugins are next served in
+    private final Map<PluginContainer, Deque<SpongeScheduledTask>> backlog = new LinkedHashMap<>();
+    private int backlogSize;
+    private final Map<PluginContainer, TaskExecutionStats> pluginStats = new ConcurrentHashMap<>();
     private long sequenceNumber = 0L;
 
     SpongeScheduler(final String tag) {
@@ -92,7 +119,9 @@ protected long timestamp(final boolean tickBased) {
      */
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.timestamp(task.task.tickBasedDelay));
+        task.setDue(task.timestamp() + task.task.delay, task.task.tickBasedDelay);
         this.tasks.put(task.uniqueId(), task);
+        this.submitted.add(task);
     }
 
     /**
@@ -100,10 +129,90 @@ protected void addTask(final SpongeScheduledTask task) {
      *
      * @param task The task to remove
      */
-    private void removeTask(final SpongeScheduledTask task) {
+    void removeTask(final SpongeScheduledTask task) {
         this.tasks.remove(task.uniqueId());
     }
 
+    /**
+     * Moves newly submitted and overdue tasks into the due queues. Must only
+     * be called from the ticking thread.
+     */
+    final void drainSubmitted() {
+        SpongeScheduledTask task;
+        while ((task = this.submitted.poll()) != null) {
+            this.enqueue(task);
+        }
+        if (!this.overdue.isEmpty()) {
+            // Overdue tasks stay out of the queues until their previous
+            // execution completes, so they do not count as due.
+            this.overdue.removeIf(overdueTask -> {
+                if (overdueTask.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
+                    return false;
+                }
+                this.enqueue(overdueTask);
+                return true;
+            });
+        }
+    }
+
+    private void enqueue(final SpongeScheduledTask task) {
+        if (task.state() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
+            return;
+        }
+        (task.tickBasedDue() ? this.tickBasedQueue : this.timeBasedQueue).add(task);
+    }
+
+    /**
+     * Gets the amount of nanoseconds until the next waiting task is due,
+     * {@code 0} if a task is already due or {@link Long#MAX_VALUE} if there
+     * are no waiting tasks. Must only be called from the ticking thread.
+     *
+     * @return The time until the next task is due
+     */
+    final long nanosUntilNextTask() {
+        long timeout = Long.MAX_VALUE;
+        final @Nullable SpongeScheduledTask tickBased = SpongeScheduler.peekLive(this.tickBasedQueue);
+        if (tickBased != null) {
+            timeout = Math.min(timeout, tickBased.dueTimestamp() - this.timestamp(true));
+        }
+        final @Nullable SpongeScheduledTask timeBased = SpongeScheduler.peekLive(this.timeBasedQueue);
+        if (timeBased != null) {
+            timeout = Math.min(timeout, timeBased.dueTimestamp() - this.timestamp(false));
+        }
+        return Math.max(timeout, 0L);
+    }
+
+    /**
+     * Polls the next task that is due, if any.
+     *
+     * @param queue The queue to poll
+     * @param now The current timestamp of the queue's timestamp source
+     * @return The next due task, or {@code null}
+     */
+    private static @Nullable SpongeScheduledTask pollDue(final PriorityQueue<SpongeScheduledTask> queue, final long now) {
+        final @Nullable SpongeScheduledTask task = SpongeScheduler.peekLive(queue);
+        if (task == null || task.dueTimestamp() > now) {
+            return null;
+        }
+        return queue.poll();
+    }
+
+    /**
+     * Peeks at the task that is next due, first dropping any cancelled tasks
+     * at the head of the queue. Cancelling is then constant time, where
+     * removing a task from the middle of the queue would be linear.
+     *
+     * @param queue The queue to peek at
+     * @return The next task that is not cancelled, or {@code null}
+     */
+    private static @Nullable SpongeScheduledTask peekLive(final PriorityQueue<SpongeScheduledTask> queue) {
+        @Nullable SpongeScheduledTask task;
+        while ((task = queue.peek()) != null && task.state() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
+            queue.poll();
+        }
+        return task;
+    }
+
     @Override
     public Optional<ScheduledTask> findTask(final UUID id) {
         Objects.requireNonNull(id, "id");
@@ -176,18 +285,99 @@ public SpongeScheduledTask submit(Task task, String name) {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     final void runTick() {
         this.preTick();
         try {
-            this.tasks.values().forEach(this::processTask);
+            this.drainSubmitted();
+            final long budget = this.tickBudget();
+            if (budget <= 0 && this.backlogSize == 0) {
+                this.processDueTasks(this.tickBasedQueue, this.timestamp(true));
+                this.processDueTasks(this.timeBasedQueue, this.timestamp(false));
+            } else {
+                this.collectDueTasks(this.tickBasedQueue, this.timestamp(true));
+                this.collectDueTasks(this.timeBasedQueue, this.timestamp(false));
+                this.processBacklog(budget);
+            }
             this.postTick();
         } finally {
             this.finallyPostTick();
         }
     }
 
+    /**
+     * Gets the maximum amount of nanoseconds that due tasks may run for in a
+     * single call to {@link #runTick}, or {@code 0} if unlimited.
+     *
+     * @return The tick budget
+     */
+    protected long tickBudget() {
+        return 0L;
+    }
+
+    private void processDueTasks(final PriorityQueue<SpongeScheduledTask> queue, final long now) {
+        @Nullable SpongeScheduledTask task;
+        while ((task = SpongeScheduler.pollDue(queue, now)) != null) {
+            this.processTask(task);
+        }
+    }
+
+    private void collectDueTasks(final PriorityQueue<SpongeScheduledTask> queue, final long now) {
+        @Nullable SpongeScheduledTask task;
+        while ((task = SpongeScheduler.pollDue(queue, now)) != null) {
+            this.backlog.computeIfAbsent(task.task.plugin(), plugin -> new ArrayDeque<>()).add(task);
+            this.backlogSize++;
+        }
+    }
+
+    /**
+     * Processes the backlog of due tasks until the budget is spent, taking
+     * one task of each plugin in turn. The plugin served last is moved to
+     * the back, so the next tick resumes with the plugin that was skipped.
+     *
+     * @param budget The budget in nanoseconds, or {@code 0} if unlimited
+     */
+    private void processBacklog(final long budget) {
+        final long start = System.nanoTime();
+        boolean processed = false;
+        while (this.backlogSize > 0) {
+            // Always make progress, even if a single task exceeds the budget
+            if (processed && budget > 0 && System.nanoTime() - start >= budget) {
+                break;
+            }
+            processed = true;
+            final Iterator<Map.Entry<PluginContainer, Deque<SpongeScheduledTask>>> it = this.backlog.entrySet().iterator();
+            final Map.Entry<PluginContainer, Deque<SpongeScheduledTask>> entry = it.next();
+            it.remove();
+            final SpongeScheduledTask task = entry.getValue().poll();
+            this.backlogSize--;
+            if (!entry.getValue().isEmpty()) {
+                this.backlog.put(entry.getKey(), entry.getValue());
+            }
+            this.processTask(task);
+        }
+    }
+
+    /**
+     * Gets the amount of due tasks that were carried over to the next tick
+     * because the tick budget was spent.
+     *
+     * @return The amount of deferred tasks
+     */
+    public int deferredTasks() {
+        return this.backlogSize;
+    }
+
+    /**
+     * Gets the execution time counters of all tasks owned by each plugin.
+     *
+     * @return The counters by plugin
+     */
+    public Map<PluginContainer, TaskExecutionStats> pluginStats() {
+        return Collections.unmodifiableMap(this.pluginStats);
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -208,53 +398,35 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task that is due.
      *
      * @param task The task to process
      */
     private void processTask(final SpongeScheduledTask task) {
-        // If the task is now slated to be cancelled, we just remove it as if it
+        // If the task is now slated to be cancelled, we just discard it as if it
         // no longer exists.
         if (task.state() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
             this.removeTask(task);
             return;
         }
         // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
+        // occurrence to terminate before checking it again.
         if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
+            this.overdue.add(task);
             return;
         }
-        final long threshold;
-        final boolean tickBased;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-            tickBased = task.task.tickBasedDelay;
-        } else if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-            tickBased = task.task.tickBasedInterval;
-        } else {
-            threshold = Long.MAX_VALUE;
-            tickBased = false;
-        }
-        // This moment is 'now'
-        final long now = this.timestamp(tickBased);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.timestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            // It is always interval here because that's the only thing that matters
-            // at this point.
-            task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        // It is always interval here because that's the only thing that matters
+        // at this point.
+        task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
+        this.startTask(task);
+        // If task is one time shot, remove it from the map. Otherwise it is
+        // due again after the interval.
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
+        } else if (task.state() != SpongeScheduledTask.ScheduledTaskState.CANCELED) {
+            task.setDue(task.timestamp() + task.task.interval, task.task.tickBasedInterval);
+            this.enqueue(task);
         }
     }
 
@@ -270,11 +442,19 @@ private void startTask(final SpongeScheduledTask task) {
                 if (context != null) {
                     context.buildAndSwitch();
                 }
+                final long start = System.nanoTime();
                 try {
                     task.task.executor().accept(task);
                 } catch (final Throwable t) {
                     SpongeCommon.logger().error("The Scheduler tried to run the task '{}' owned by '{}' but an error occurred.",
                             task.name(), task.task().plugin().metadata().id(), t);
+                } finally {
+                    final long elapsed = System.nanoTime() - start;
+                    task.stats().record(elapsed);
+                    if (SpongeTimings.isEnabled()) {
+                        task.timing().record(elapsed);
+                    }
+                    this.pluginStats.computeIfAbsent(task.task().plugin(), plugin -> new TaskExecutionStats()).record(elapsed);
                 }
             } finally {
                 if (!task.isCancelled()) {
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.scheduler;
 
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+
 public abstract class SyncScheduler extends SpongeScheduler {
 
     // The number of ticks elapsed since this scheduler began.
@@ -41,6 +43,12 @@ public void tick() {
         this.runTick();
     }
 
+    @Override
+    protected long tickBudget() {
+        final double budget = SpongeConfigs.getCommon().get().scheduler.syncTickBudget;
+        return budget <= 0 ? 0L : (long) (budget * 1_000_000L);
+    }
+
     @Override
     protected long timestamp(final boolean tickBased) {
         // The task is based on minecraft ticks, so we generate
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+
+import java.time.Duration;
+
+/**
+ * Logs virtual threads that block while pinned to their carrier thread,
+ * using the JFR event the JVM emits for this.
+ */
+final class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+    private static final int MAX_FRAMES = 15;
+
+    private static @Nullable RecordingStream stream;
+
+    private VirtualThreadPinningMonitor() {
+    }
+
+    static synchronized void start() {
+        if (VirtualThreadPinningMonitor.stream != null) {
+            return;
+        }
+        try {
+            final RecordingStream stream = new RecordingStream();
+            stream.enable(VirtualThreadPinningMonitor.PINNED_EVENT)
+                .withThreshold(VirtualThreadPinningMonitor.THRESHOLD)
+                .withStackTrace();
+            stream.onEvent(VirtualThreadPinningMonitor.PINNED_EVENT, VirtualThreadPinningMonitor::log);
+            stream.setMaxAge(Duration.ofSeconds(10));
+            stream.startAsync();
+            VirtualThreadPinningMonitor.stream = stream;
+        } catch (final Throwable e) {
+            // JFR may be unavailable or disabled, fall back to the JVM's own reporting
+            SpongeCommon.logger().warn("Could not monitor pinned virtual threads through JFR, falling back to jdk.tracePinnedThreads", e);
+            if (System.getProperty("jdk.tracePinnedThreads") == null) {
+                System.setProperty("jdk.tracePinnedThreads", "short");
+            }
+        }
+    }
+
+    static synchronized void stop() {
+        if (VirtualThreadPinningMonitor.stream != null) {
+            VirtualThreadPinningMonitor.stream.close();
+            VirtualThreadPinningMonitor.stream = null;
+        }
+    }
+
+    private static void log(final RecordedEvent event) {
+        final @Nullable RecordedThread thread = event.getThread();
+        final StringBuilder builder = new StringBuilder();
+        final @Nullable RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            int count = 0;
+            for (final RecordedFrame frame : stackTrace.getFrames()) {
+                if (count++ == VirtualThreadPinningMonitor.MAX_FRAMES) {
+                    builder.append("\n\t...");
+                    break;
+                }
+                builder.append("\n\tat ").append(frame.getMethod().getType().getName())
+                    .append('.').append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber());
+            }
+        }
+        SpongeCommon.logger().warn("Virtual thread {} was pinned to its carrier for {}ms while blocking. An asynchronous task is "
+                + "likely holding a monitor during blocking I/O:{}",
+            thread == null ? "unknown" : thread.getJavaName(), event.getDuration().toMillis(), builder);
+    }
+
+}
@@ -30,6 +30,7 @@
 import net.minecraft.server.players.StoredUserEntry;
 import net.minecraft.server.players.UserBanList;
 import net.minecraft.server.players.UserBanListEntry;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.profile.GameProfile;
@@ -38,6 +39,7 @@
 import org.spongepowered.api.service.ban.BanTypes;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.players.IpBanListAccessor;
+import org.spongepowered.common.accessor.server.players.StoredUserEntryAccessor;
 import org.spongepowered.common.accessor.server.players.StoredUserListAccessor;
 import org.spongepowered.common.bridge.server.MinecraftServerBridge;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -49,6 +51,9 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -80,16 +85,14 @@ public CompletableFuture<Collection<? extends Ban>> bans() {
     public CompletableFuture<Collection<Ban.Profile>> profileBans() {
         final StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry> accessor =
             (StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry>) this.getUserBanList();
-        accessor.invoker$removeExpired();
-        return CompletableFuture.completedFuture(Collections.unmodifiableCollection(new ArrayList<>((Collection<Ban.Profile>) (Object) accessor.accessor$map().values())));
+        return CompletableFuture.completedFuture(Collections.unmodifiableCollection((Collection<Ban.Profile>) (Object) SpongeBanService.liveEntries(accessor)));
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public CompletableFuture<Collection<Ban.IP>> ipBans() {
-        final StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry> accessor = ((StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry>) this.getIPBanList());
-        accessor.invoker$removeExpired();
-        return CompletableFuture.completedFuture(Collections.unmodifiableCollection(new ArrayList<>((Collection<Ban.IP>) (Object) accessor.accessor$map().values())));
+        final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
+        return CompletableFuture.completedFuture(Collections.unmodifiableCollection((Collection<Ban.IP>) (Object) SpongeBanService.liveEntries(accessor)));
     }
 
     @SuppressWarnings("unchecked")
@@ -97,52 +100,38 @@ public CompletableFuture<Collection<Ban.IP>> ipBans() {
     public CompletableFuture<Optional<Ban.Profile>> find(final GameProfile profile) {
         final StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry> accessor =
             (StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry>) this.getUserBanList();
-        accessor.invoker$removeExpired();
-        return CompletableFuture.completedFuture(Optional.ofNullable((Ban.Profile) accessor.accessor$map().get(accessor.invoker$getKeyForUser(SpongeGameProfile.toMcProfile(profile)))));
+        return CompletableFuture.completedFuture(Optional.ofNullable((Ban.Profile) SpongeBanService.liveEntry(accessor, accessor.invoker$getKeyForUser(SpongeGameProfile.toMcProfile(profile)))));
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public CompletableFuture<Optional<Ban.IP>> find(final InetAddress address) {
         final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
-
-        accessor.invoker$removeExpired();
-        return CompletableFuture.completedFuture(Optional.ofNullable((Ban.IP) accessor.accessor$map().get(accessor.invoker$getKeyForUser(((IpBanListAccessor) accessor).invoker$getIpFromAddress(new InetSocketAddress(address, 0))))));
+        return CompletableFuture.completedFuture(Optional.ofNullable((Ban.IP) SpongeBanService.liveEntry(accessor, accessor.invoker$getKeyForUser(((IpBanListAccessor) accessor).invoker$getIpFromAddress(new InetSocketAddress(address, 0))))));
     }
 
     @SuppressWarnings("unchecked")
     public boolean isBanned(final GameProfile profile) {
         final StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry> accessor =
             (StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry>) this.getUserBanList();
-
-        accessor.invoker$removeExpired();
-        return accessor.accessor$map().containsKey(accessor.invoker$getKeyForUser(SpongeGameProfile.toMcProfile(profile)));
+        return SpongeBanService.liveEntry(accessor, accessor.invoker$getKeyForUser(SpongeGameProfile.toMcProfile(profile))) != null;
     }
 
     @SuppressWarnings("unchecked")
     public boolean isBanned(final InetAddress address) {
         final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
-
-        accessor.invoker$removeExpired();
-        return accessor.accessor$map().containsKey(accessor.invoker$getKeyForUser(((IpBanListAccessor) accessor).invoker$getIpFromAddress(new InetSocketAddress(address, 0))));
+        return SpongeBanService.liveEntry(accessor, accessor.invoker$getKeyForUser(((IpBanListAccessor) accessor).invoker$getIpFromAddress(new InetSocketAddress(address, 0)))) != null;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public CompletableFuture<Boolean> pardon(final GameProfile profile) {
         final CompletableFuture<Optional<Ban.Profile>> ban = this.find(profile);
-        final StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry> accessor =
-            (StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry>) this.getUserBanList();
-        accessor.invoker$removeExpired();
         return ban.thenCompose(result -> result.map(this::remove).orElse(CompletableFuture.completedFuture(false)));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public CompletableFuture<Boolean> pardon(final InetAddress address) {
         final CompletableFuture<Optional<Ban.IP>> ban = this.find(address);
-        final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
-        accessor.invoker$removeExpired();
         return ban.thenCompose(result -> result.map(this::remove).orElse(CompletableFuture.completedFuture(false)));
     }
 
@@ -200,6 +189,39 @@ public boolean hasBan(final Ban ban) {
         throw new IllegalArgumentException(String.format("Ban %s had unrecognized BanType %s!", ban, ban.type()));
     }
 
+    /**
+     * Gets the entry stored under the given key, evicting it instead if it
+     * has expired. Only the probed entry is checked, so a lookup no longer
+     * has to sweep the whole list the way {@code removeExpired} does.
+     */
+    private static <K, V extends StoredUserEntry<K>> @Nullable V liveEntry(final StoredUserListAccessor<K, V> accessor, final String key) {
+        final Map<String, V> map = accessor.accessor$map();
+        final V entry = map.get(key);
+        if (entry != null && ((StoredUserEntryAccessor<?>) entry).invoker$hasExpired()) {
+            map.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Copies the unexpired entries of the list, evicting expired ones in the
+     * same pass.
+     */
+    private static <K, V extends StoredUserEntry<K>> List<V> liveEntries(final StoredUserListAccessor<K, V> accessor) {
+        final Collection<V> values = accessor.accessor$map().values();
+        final List<V> live = new ArrayList<>(values.size());
+        for (final Iterator<V> iterator = values.iterator(); iterator.hasNext(); ) {
+            final V entry = iterator.next();
+            if (((StoredUserEntryAccessor<?>) entry).invoker$hasExpired()) {
+                iterator.remove();
+            } else {
+                live.add(entry);
+            }
+        }
+        return live;
+    }
+
     private UserBanList getUserBanList() {
         return SpongeCommon.server().getPlayerList().getBans();
     }
@@ -108,8 +108,8 @@ public MemorySubjectData subjectData() {
         }
 
         @Override
-        public Tristate permissionValue(final String permission, final Cause cause) {
-            Tristate ret = super.permissionValue(permission, cause);
+        protected Tristate resolvePermissionValue(final String permission) {
+            Tristate ret = super.resolvePermissionValue(permission);
 
             if (ret == Tristate.UNDEFINED) {
                 ret = this.dataPermissionValue(DataFactoryCollection.this.defaults().transientSubjectData(), permission);
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.permission;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Remembers the fully resolved permission values of a single subject,
+ * including everything inherited from parents and defaults.
+ *
+ * <p>A change to any subject data may alter the resolution of every subject
+ * inheriting from it, so all caches share a global generation which is bumped
+ * by {@link #invalidateAll()} and checked lazily on lookup.</p>
+ */
+final class ResolvedPermissionCache {
+
+    private static final int MAX_SIZE = 4096;
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    private final ConcurrentMap<String, Tristate> values = new ConcurrentHashMap<>();
+    private volatile int generation = ResolvedPermissionCache.GENERATION.get();
+
+    static void invalidateAll() {
+        ResolvedPermissionCache.GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Gets the current generation, to be captured before resolving a value
+     * that is later passed to {@link #put(String, Tristate, int)}.
+     */
+    static int generation() {
+        return ResolvedPermissionCache.GENERATION.get();
+    }
+
+    @Nullable Tristate get(final String permission) {
+        final int current = ResolvedPermissionCache.GENERATION.get();
+        if (this.generation != current) {
+            this.values.clear();
+            this.generation = current;
+            return null;
+        }
+        return this.values.get(permission);
+    }
+
+    void put(final String permission, final Tristate value, final int generation) {
+        // Drop values resolved against data that changed in the meantime
+        if (generation != ResolvedPermissionCache.GENERATION.get() || this.generation != generation) {
+            return;
+        }
+        if (this.values.size() >= ResolvedPermissionCache.MAX_SIZE) {
+            this.values.clear();
+        }
+        this.values.put(permission, value);
+    }
+}
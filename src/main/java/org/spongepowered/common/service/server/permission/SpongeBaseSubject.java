@@ -39,6 +39,8 @@
 
 public abstract class SpongeBaseSubject implements Subject {
 
+    private final ResolvedPermissionCache resolvedPermissions = new ResolvedPermissionCache();
+
     public abstract PermissionService service();
 
     @Override
@@ -71,7 +73,25 @@ public boolean hasPermission(final String permission, final Set<Context> context
     }
 
     @Override
-    public Tristate permissionValue(final String permission, final @Nullable Cause cause) {
+    public final Tristate permissionValue(final String permission, final @Nullable Cause cause) {
+        final @Nullable Tristate cached = this.resolvedPermissions.get(permission);
+        if (cached != null) {
+            return cached;
+        }
+        final int generation = ResolvedPermissionCache.generation();
+        final Tristate value = this.resolvePermissionValue(permission);
+        this.resolvedPermissions.put(permission, value, generation);
+        return value;
+    }
+
+    /**
+     * Resolves the value of the given permission for this subject, the result
+     * is cached until any subject data changes.
+     *
+     * @param permission The permission
+     * @return The resolved value
+     */
+    protected Tristate resolvePermissionValue(final String permission) {
         return this.dataPermissionValue(this.transientSubjectData(), permission);
     }
 
@@ -31,12 +31,14 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 public final class SpongeNodeTree implements NodeTree {
 
-    private static final Pattern NODE_SPLIT = Pattern.compile("\\.");
+    private static final int MAX_TOKENIZED_NODES = 8192;
+    private static final ConcurrentMap<String, String[]> TOKENIZED_NODES = new ConcurrentHashMap<>();
     private final Node rootNode;
 
     SpongeNodeTree(final Tristate value) {
@@ -48,9 +50,46 @@ public final class SpongeNodeTree implements NodeTree {
         this.rootNode = rootNode;
     }
 
+    /**
+     * Splits the given node into its lower case parts. Results are interned,
+     * so repeated lookups of the same node neither lowercase nor split again.
+     * The returned array must not be modified.
+     */
+    static String[] tokenize(final String node) {
+        String[] parts = SpongeNodeTree.TOKENIZED_NODES.get(node);
+        if (parts == null) {
+            parts = SpongeNodeTree.split(node.toLowerCase());
+            if (SpongeNodeTree.TOKENIZED_NODES.size() >= SpongeNodeTree.MAX_TOKENIZED_NODES) {
+                SpongeNodeTree.TOKENIZED_NODES.clear();
+            }
+            SpongeNodeTree.TOKENIZED_NODES.put(node, parts);
+        }
+        return parts;
+    }
+
+    private static String[] split(final String node) {
+        int count = 1;
+        for (int i = 0; i < node.length(); i++) {
+            if (node.charAt(i) == '.') {
+                count++;
+            }
+        }
+        final String[] parts = new String[count];
+        int start = 0;
+        int index = 0;
+        for (int i = 0; i < node.length(); i++) {
+            if (node.charAt(i) == '.') {
+                parts[index++] = node.substring(start, i);
+                start = i + 1;
+            }
+        }
+        parts[index] = node.substring(start);
+        return parts;
+    }
+
     <T> void populate(final Map<String, T> values, final Function<T, Tristate> converter) {
         for (final Map.Entry<String, T> value : values.entrySet()) {
-            final String[] parts = SpongeNodeTree.NODE_SPLIT.split(value.getKey().toLowerCase(), -1);
+            final String[] parts = SpongeNodeTree.tokenize(value.getKey());
             Node currentNode = this.rootNode;
             for (final String part : parts) {
                 if (currentNode.children.containsKey(part)) {
@@ -67,14 +106,15 @@ <T> void populate(final Map<String, T> values, final Function<T, Tristate> conve
 
     @Override
     public Tristate get(final String node) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String[] parts = SpongeNodeTree.tokenize(node);
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        for (final String str : parts) {
+            final Node child = currentNode.children.get(str);
+            if (child == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
+            currentNode = child;
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
@@ -116,7 +156,7 @@ private void populateMap(final ImmutableMap.Builder<String, Boolean> values, fin
 
     @Override
     public NodeTree withValue(final String node, final Tristate value) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String[] parts = SpongeNodeTree.tokenize(node);
         final Node newRoot = new Node(new HashMap<>(this.rootNode.children));
         Node newPtr = newRoot;
         Node currentPtr = this.rootNode;
@@ -103,6 +103,14 @@ static int getServerOpLevel() {
         return SpongeCommon.server().getOperatorUserPermissionLevel();
     }
 
+    /**
+     * Discards all cached permission resolutions, to be called when state
+     * outside of subject data that affects them changes, like the ops list.
+     */
+    public static void invalidateResolvedPermissions() {
+        ResolvedPermissionCache.invalidateAll();
+    }
+
     public Subject getGroupForOpLevel(final int level) {
         return this.groupSubjects().get("op_" + level);
     }
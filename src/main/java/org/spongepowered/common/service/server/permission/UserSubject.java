@@ -65,11 +65,16 @@ public void setParent(final SubjectReference parent) {
                     }
                     opLevel = ((OpLevelCollection.OpLevelSubject) parent).opLevel();
                 }
-                if (opLevel > 0) {
-                    // TODO: Should bypassesPlayerLimit be true or false?
-                    SpongePermissionService.getOps().add(new ServerOpListEntry(player, opLevel, false));
-                } else {
-                    SpongePermissionService.getOps().remove(player);
+                try {
+                    if (opLevel > 0) {
+                        // TODO: Should bypassesPlayerLimit be true or false?
+                        SpongePermissionService.getOps().add(new ServerOpListEntry(player, opLevel, false));
+                    } else {
+                        SpongePermissionService.getOps().remove(player);
+                    }
+                } finally {
+                    // Only once the op list has changed, or a resolution in between would cache the old op level
+                    ResolvedPermissionCache.invalidateAll();
                 }
             }
         };
@@ -124,8 +129,8 @@ public PermissionService service() {
     }
 
     @Override
-    public Tristate permissionValue(final String permission, final Cause cause) {
-        Tristate ret = super.permissionValue(permission, cause);
+    protected Tristate resolvePermissionValue(final String permission) {
+        Tristate ret = super.resolvePermissionValue(permission);
         if (ret == Tristate.UNDEFINED) {
             ret = this.dataPermissionValue(this.collection.defaults().subjectData(), permission);
         }
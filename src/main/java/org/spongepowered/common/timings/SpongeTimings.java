@@ -0,0 +1,130 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.timings;
+
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The timings profiler, recording the wall time spent in plugin listeners,
+ * scheduled tasks, commands and the different tick phases.
+ *
+ * <p>Instrumented code calls {@link #start()} and passes the result to
+ * {@link Timing#stop(long)}. While timings are disabled, that is a single
+ * volatile read and nothing is recorded.</p>
+ */
+public final class SpongeTimings {
+
+    static final long NOT_STARTED = Long.MIN_VALUE;
+
+    public static final String MINECRAFT_GROUP = "Minecraft";
+    private static final Map<String, Timing> TIMINGS = new ConcurrentHashMap<>();
+
+    public static final Timing TICK_ENTITY = SpongeTimings.of(SpongeTimings.MINECRAFT_GROUP, "Tick: Entity");
+    public static final Timing TICK_BLOCK_ENTITY = SpongeTimings.of(SpongeTimings.MINECRAFT_GROUP, "Tick: Block Entity");
+    public static final Timing TICK_BLOCK = SpongeTimings.of(SpongeTimings.MINECRAFT_GROUP, "Tick: Scheduled Block");
+    public static final Timing TICK_RANDOM_BLOCK = SpongeTimings.of(SpongeTimings.MINECRAFT_GROUP, "Tick: Random Block");
+    public static final Timing TICK_FLUID = SpongeTimings.of(SpongeTimings.MINECRAFT_GROUP, "Tick: Scheduled Fluid");
+    public static final Timing TICK_RANDOM_FLUID = SpongeTimings.of(SpongeTimings.MINECRAFT_GROUP, "Tick: Random Fluid");
+
+    /** The value of {@link #enabledSince} until timings are enabled for the first time */
+    private static final long NEVER_ENABLED = 0L;
+
+    private static volatile boolean enabled = false;
+    private static volatile long enabledSince = SpongeTimings.NEVER_ENABLED;
+
+    private SpongeTimings() {
+    }
+
+    public static Timing of(final String group, final String name) {
+        return SpongeTimings.TIMINGS.computeIfAbsent(group + '\0' + name, k -> new Timing(group, name));
+    }
+
+    public static Timing of(final PluginContainer plugin, final String name) {
+        return SpongeTimings.of("Plugin: " + plugin.metadata().id(), name);
+    }
+
+    /**
+     * Gets the timestamp to later pass to {@link Timing#stop(long)}.
+     *
+     * @return The current time, or a marker if timings are disabled
+     */
+    public static long start() {
+        return SpongeTimings.enabled ? System.nanoTime() : SpongeTimings.NOT_STARTED;
+    }
+
+    public static boolean isEnabled() {
+        return SpongeTimings.enabled;
+    }
+
+    /**
+     * Enables timings, discarding anything that was recorded before.
+     */
+    public static void enable() {
+        SpongeTimings.TIMINGS.values().forEach(Timing::reset);
+        SpongeTimings.enabledSince = System.currentTimeMillis();
+        SpongeTimings.enabled = true;
+    }
+
+    public static void disable() {
+        SpongeTimings.enabled = false;
+    }
+
+    public static void reset() {
+        SpongeTimings.TIMINGS.values().forEach(Timing::reset);
+        if (SpongeTimings.enabledSince != SpongeTimings.NEVER_ENABLED) {
+            SpongeTimings.enabledSince = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Gets whether timings were ever enabled, otherwise there is nothing to
+     * report.
+     *
+     * @return True if timings were enabled at some point
+     */
+    public static boolean wasEnabled() {
+        return SpongeTimings.enabledSince != SpongeTimings.NEVER_ENABLED;
+    }
+
+    /**
+     * Gets the time at which timings were last enabled or reset, only
+     * meaningful if they {@link #wasEnabled() were enabled}.
+     *
+     * @return The time in milliseconds since the epoch
+     */
+    public static long enabledSince() {
+        return SpongeTimings.enabledSince;
+    }
+
+    public static Collection<Timing> timings() {
+        return Collections.unmodifiableCollection(SpongeTimings.TIMINGS.values());
+    }
+
+}
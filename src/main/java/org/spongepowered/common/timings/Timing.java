@@ -0,0 +1,148 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.timings;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wall time recorded for one instrumented piece of code, such as a single
+ * event listener, scheduled task or command.
+ *
+ * <p>Every counter is a {@link LongAdder}, so concurrent recording threads
+ * write to their own cells and never contend on a lock. Durations are also
+ * sorted into power of two buckets, which is precise enough to estimate
+ * percentiles for a report.</p>
+ */
+public final class Timing {
+
+    static final int BUCKETS = 48;
+
+    private final String group;
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder[] histogram = new LongAdder[Timing.BUCKETS];
+
+    Timing(final String group, final String name) {
+        this.group = group;
+        this.name = name;
+        for (int i = 0; i < Timing.BUCKETS; i++) {
+            this.histogram[i] = new LongAdder();
+        }
+    }
+
+    public String group() {
+        return this.group;
+    }
+
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Records the time passed since the given start, as returned by
+     * {@link SpongeTimings#start()}.
+     *
+     * @param start The start timestamp
+     */
+    public void stop(final long start) {
+        if (start != SpongeTimings.NOT_STARTED) {
+            this.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records a duration that was measured elsewhere.
+     *
+     * @param nanos The duration in nanoseconds
+     */
+    public void record(final long nanos) {
+        this.count.increment();
+        this.totalNanos.add(nanos);
+        this.maxNanos.accumulate(nanos);
+        this.histogram[Timing.bucket(nanos)].increment();
+    }
+
+    static int bucket(final long nanos) {
+        return Math.min(Timing.BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0L, nanos)));
+    }
+
+    void reset() {
+        this.count.reset();
+        this.totalNanos.reset();
+        this.maxNanos.reset();
+        for (final LongAdder bucket : this.histogram) {
+            bucket.reset();
+        }
+    }
+
+    public long count() {
+        return this.count.sum();
+    }
+
+    public long totalNanos() {
+        return this.totalNanos.sum();
+    }
+
+    public long maxNanos() {
+        return this.maxNanos.get();
+    }
+
+    public double averageNanos() {
+        final long count = this.count();
+        return count == 0 ? 0 : (double) this.totalNanos() / count;
+    }
+
+    /**
+     * Estimates the given percentile from the histogram, returning the upper
+     * bound of the bucket the percentile falls into.
+     *
+     * @param percentile The percentile, between 0 and 1
+     * @return The estimated duration in nanoseconds
+     */
+    public long percentileNanos(final double percentile) {
+        final long[] counts = new long[Timing.BUCKETS];
+        long total = 0;
+        for (int i = 0; i < Timing.BUCKETS; i++) {
+            counts[i] = this.histogram[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < Timing.BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(this.maxNanos(), i == 0 ? 0 : (1L << i) - 1);
+            }
+        }
+        return this.maxNanos();
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.timings;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Writes the recorded {@link SpongeTimings} to a JSON file for tooling and an
+ * HTML file for people.
+ */
+public final class TimingsReport {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final DateTimeFormatter FILE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss");
+
+    private TimingsReport() {
+    }
+
+    /**
+     * Gets all timings that recorded anything, slowest in total first.
+     *
+     * @return The sorted timings
+     */
+    public static List<Timing> sortedTimings() {
+        return SpongeTimings.timings().stream()
+            .filter(timing -> timing.count() > 0)
+            .sorted(Comparator.comparingLong(Timing::totalNanos).reversed())
+            .toList();
+    }
+
+    /**
+     * Writes the report files to the {@code timings} folder of the game
+     * directory.
+     *
+     * @return The JSON and HTML files that were written
+     * @throws IOException If the files could not be written
+     */
+    public static List<Path> write() throws IOException {
+        final Path directory = SpongeCommon.gameDirectory().resolve("timings");
+        Files.createDirectories(directory);
+        final String base = "timings-" + TimingsReport.FILE_FORMATTER.format(LocalDateTime.now());
+        final Path json = directory.resolve(base + ".json");
+        final Path html = directory.resolve(base + ".html");
+        final List<Timing> timings = TimingsReport.sortedTimings();
+        // Negative if timings were never enabled
+        final long duration = SpongeTimings.wasEnabled() ? System.currentTimeMillis() - SpongeTimings.enabledSince() : -1L;
+
+        try (final Writer writer = Files.newBufferedWriter(json, StandardCharsets.UTF_8)) {
+            TimingsReport.GSON.toJson(TimingsReport.toJson(timings, duration), writer);
+        }
+        try (final Writer writer = Files.newBufferedWriter(html, StandardCharsets.UTF_8)) {
+            writer.write(TimingsReport.toHtml(timings, duration));
+        }
+        return List.of(json, html);
+    }
+
+    private static JsonObject toJson(final List<Timing> timings, final long duration) {
+        final JsonObject root = new JsonObject();
+        root.addProperty("enabled", duration >= 0);
+        if (duration >= 0) {
+            root.addProperty("durationMillis", duration);
+        }
+        final JsonArray entries = new JsonArray();
+        for (final Timing timing : timings) {
+            final JsonObject entry = new JsonObject();
+            entry.addProperty("group", timing.group());
+            entry.addProperty("name", timing.name());
+            entry.addProperty("count", timing.count());
+            entry.addProperty("totalNanos", timing.totalNanos());
+            entry.addProperty("averageNanos", timing.averageNanos());
+            entry.addProperty("p50Nanos", timing.percentileNanos(0.5));
+            entry.addProperty("p95Nanos", timing.percentileNanos(0.95));
+            entry.addProperty("p99Nanos", timing.percentileNanos(0.99));
+            entry.addProperty("maxNanos", timing.maxNanos());
+            entries.add(entry);
+        }
+        root.add("timings", entries);
+        return root;
+    }
+
+    private static String toHtml(final List<Timing> timings, final long duration) {
+        final StringBuilder builder = new StringBuilder(256 + timings.size() * 256);
+        builder.append("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Sponge Timings</title>")
+            .append("<style>body{font-family:sans-serif}table{border-collapse:collapse}")
+            .append("td,th{border:1px solid #ccc;padding:2px 6px}td.n{text-align:right}</style></head><body>\n")
+            .append("<h1>Sponge Timings</h1>\n")
+            .append(duration >= 0 ? "<p>Recorded over " + duration / 1000 + " seconds.</p>\n" : "<p>Timings were not enabled.</p>\n")
+            .append("<table><tr><th>Group</th><th>Name</th><th>Count</th><th>Total (ms)</th><th>Avg (ms)</th>")
+            .append("<th>p50 (ms)</th><th>p95 (ms)</th><th>p99 (ms)</th><th>Max (ms)</th></tr>\n");
+        for (final Timing timing : timings) {
+            builder.append("<tr><td>").append(TimingsReport.escape(timing.group()))
+                .append("</td><td>").append(TimingsReport.escape(timing.name()))
+                .append("</td><td class=\"n\">").append(timing.count());
+            TimingsReport.appendMillis(builder, timing.totalNanos());
+            TimingsReport.appendMillis(builder, timing.averageNanos());
+            TimingsReport.appendMillis(builder, timing.percentileNanos(0.5));
+            TimingsReport.appendMillis(builder, timing.percentileNanos(0.95));
+            TimingsReport.appendMillis(builder, timing.percentileNanos(0.99));
+            TimingsReport.appendMillis(builder, timing.maxNanos());
+            builder.append("</td></tr>\n");
+        }
+        return builder.append("</table></body></html>\n").toString();
+    }
+
+    private static void appendMillis(final StringBuilder builder, final double nanos) {
+        builder.append("</td><td class=\"n\">").append(String.format("%.3f", nanos / 1_000_000));
+    }
+
+    private static String escape(final String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+}
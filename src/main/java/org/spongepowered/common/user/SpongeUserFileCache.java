@@ -34,6 +34,7 @@
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -174,6 +175,11 @@ public Stream<UUID> knownUUIDs() {
         return this.knownUniqueIds.stream();
     }
 
+    public Set<UUID> knownUniqueIds() {
+        this.pollFilesystemWatcher();
+        return Collections.unmodifiableSet(this.knownUniqueIds);
+    }
+
     public void shutdownWatcher() {
         if (this.watchKey != null) {
             this.watchKey.cancel();
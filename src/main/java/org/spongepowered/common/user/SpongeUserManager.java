@@ -228,9 +228,11 @@ public boolean exists(final UUID playerUuid) {
     @Override
     public Stream<GameProfile> streamOfMatches(final String lastKnownName) {
         final String nameToCheck = Objects.requireNonNull(lastKnownName, "lastKnownName").toLowerCase(Locale.ROOT);
+        // Check the known player files once, rather than touching the file system for every match
+        final Set<UUID> knownUniqueIds = this.userFileCache.knownUniqueIds();
         return ((Server) this.server).gameProfileManager().cache()
                 .streamOfMatches(nameToCheck)
-                .filter(gameProfile -> this.exists(gameProfile.uuid()));
+                .filter(gameProfile -> knownUniqueIds.contains(gameProfile.uuid()) || this.userCache.getIfPresent(gameProfile.uuid()) != null);
     }
 
     private UUID ensureNonEmptyUUID(final UUID uuid) {
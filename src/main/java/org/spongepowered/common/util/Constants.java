@@ -156,7 +156,10 @@ public static final class V3 {
 
         public static final String SPONGE_ENTITY_CREATOR = "Creator";
         public static final String SPONGE_ENTITY_NOTIFIER = "Notifier";
+        @Deprecated
         public static final String SPONGE_BLOCK_POS_TABLE = "BlockPosTable";
+        public static final String SPONGE_TRACKED_BLOCK_POSITIONS = "tracked-block-positions";
+        public static final String SPONGE_TRACKED_BLOCK_PLAYERS = "tracked-block-players";
 
         @Deprecated
         public static final String LEGACY_SPONGE_PLAYER_UUID_TABLE = "PlayerIdTable";
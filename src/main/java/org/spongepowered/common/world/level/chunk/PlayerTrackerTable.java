@@ -0,0 +1,186 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Stores the creator and notifier indices of tracked block positions within a
+ * single chunk.
+ *
+ * <p>Positions are grouped by chunk section and keyed by their section-local
+ * index. Both player indices are packed into a single {@code long}, so
+ * tracking a block costs one primitive map slot instead of a boxed key and a
+ * tracker object.</p>
+ */
+public final class PlayerTrackerTable {
+
+    public static final int NONE = -1;
+    public static final long EMPTY = PlayerTrackerTable.pack(PlayerTrackerTable.NONE, PlayerTrackerTable.NONE);
+
+    private @Nullable Int2ObjectOpenHashMap<Short2LongOpenHashMap> sections;
+    private int size;
+
+    public static long pack(final int creator, final int notifier) {
+        return ((long) creator << 32) | (notifier & 0xFFFFFFFFL);
+    }
+
+    public static int creator(final long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int notifier(final long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Packs a chunk-relative block position into an int, the inverse of
+     * {@link #x(int)}, {@link #y(int)} and {@link #z(int)}.
+     */
+    public static int packPosition(final int x, final int y, final int z) {
+        return (y << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    public static int x(final int packedPosition) {
+        return packedPosition & 15;
+    }
+
+    public static int y(final int packedPosition) {
+        return packedPosition >> 8;
+    }
+
+    public static int z(final int packedPosition) {
+        return (packedPosition >> 4) & 15;
+    }
+
+    private static short localIndex(final int x, final int y, final int z) {
+        return (short) (((y & 15) << 8) | ((z & 15) << 4) | (x & 15));
+    }
+
+    public long get(final BlockPos pos) {
+        return this.get(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Gets the packed creator and notifier indices of the given position.
+     *
+     * @return The packed indices or {@link #EMPTY}
+     */
+    public long get(final int x, final int y, final int z) {
+        if (this.sections == null) {
+            return PlayerTrackerTable.EMPTY;
+        }
+        final Short2LongOpenHashMap section = this.sections.get(SectionPos.blockToSectionCoord(y));
+        if (section == null) {
+            return PlayerTrackerTable.EMPTY;
+        }
+        return section.get(PlayerTrackerTable.localIndex(x, y, z));
+    }
+
+    public void set(final BlockPos pos, final long packed) {
+        this.set(pos.getX(), pos.getY(), pos.getZ(), packed);
+    }
+
+    /**
+     * Sets the packed creator and notifier indices of the given position,
+     * setting {@link #EMPTY} stops tracking the position.
+     */
+    public void set(final int x, final int y, final int z, final long packed) {
+        if (packed == PlayerTrackerTable.EMPTY) {
+            this.remove(x, y, z);
+            return;
+        }
+        if (this.sections == null) {
+            this.sections = new Int2ObjectOpenHashMap<>(4);
+        }
+        final int sectionY = SectionPos.blockToSectionCoord(y);
+        Short2LongOpenHashMap section = this.sections.get(sectionY);
+        if (section == null) {
+            section = new Short2LongOpenHashMap();
+            section.defaultReturnValue(PlayerTrackerTable.EMPTY);
+            this.sections.put(sectionY, section);
+        }
+        if (section.put(PlayerTrackerTable.localIndex(x, y, z), packed) == PlayerTrackerTable.EMPTY) {
+            this.size++;
+        }
+    }
+
+    public void remove(final BlockPos pos) {
+        this.remove(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public void remove(final int x, final int y, final int z) {
+        if (this.sections == null) {
+            return;
+        }
+        final int sectionY = SectionPos.blockToSectionCoord(y);
+        final Short2LongOpenHashMap section = this.sections.get(sectionY);
+        if (section == null) {
+            return;
+        }
+        if (section.remove(PlayerTrackerTable.localIndex(x, y, z)) != PlayerTrackerTable.EMPTY) {
+            this.size--;
+            if (section.isEmpty()) {
+                this.sections.remove(sectionY);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Visits every tracked position, in no particular order.
+     */
+    public void forEach(final Visitor visitor) {
+        if (this.sections == null) {
+            return;
+        }
+        for (final Int2ObjectMap.Entry<Short2LongOpenHashMap> sectionEntry : this.sections.int2ObjectEntrySet()) {
+            final int minY = SectionPos.sectionToBlockCoord(sectionEntry.getIntKey());
+            for (final Short2LongMap.Entry entry : sectionEntry.getValue().short2LongEntrySet()) {
+                final int local = entry.getShortKey();
+                visitor.visit(local & 15, minY + ((local >> 8) & 15), (local >> 4) & 15, entry.getLongValue());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+
+        void visit(int x, int y, int z, long packed);
+    }
+}
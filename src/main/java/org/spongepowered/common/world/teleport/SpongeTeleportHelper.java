@@ -26,10 +26,14 @@
 
 import com.google.common.collect.Sets;
 import com.google.inject.Singleton;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.util.Tristate;
-import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.api.world.teleport.TeleportHelper;
@@ -40,14 +44,18 @@
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Singleton
 public final class SpongeTeleportHelper implements TeleportHelper {
@@ -65,67 +73,51 @@ public Optional<ServerLocation> findSafeLocation(ServerLocation location, int he
         }
 
         // Get the vectors to check, and get the block types with them.
-        // The vectors should be sorted by distance from the centre of the checking region, so
+        // The vectors are generated by distance from the centre of the checking region, so
         // this makes it easier to try to get close, because we can just iterate and get progressively further out.
-        Optional<Vector3i> result = this.getSafeLocation(world, this.getBlockLocations(location, height, width), distanceToDrop, filters);
+        final SearchRegion region = this.getSearchRegion(location, height, width);
+        final Optional<Vector3i> result = this.getSafeLocation(world, region, distanceToDrop, filters);
         return result.map(vector3i -> ServerLocation.of(world, vector3i.toDouble().add(0.5, 0, 0.5)));
     }
 
-    private Stream<Vector3i> getBlockLocations(ServerLocation worldLocation, int height, int width) {
+    private SearchRegion getSearchRegion(final ServerLocation worldLocation, final int height, final int width) {
         // We don't want to warp outside of the world border, so we want to check that we're within it.
         final WorldBorder.Settings worldBorder = (WorldBorder.Settings) worldLocation.world().properties().worldBorder();
         final double radius = worldBorder.getSize() / 2.0D;
-        int worldBorderMinX = GenericMath.floor(worldBorder.getCenterX() - radius);
-        int worldBorderMinZ = GenericMath.floor(worldBorder.getCenterZ() - radius);
-        int worldBorderMaxX = GenericMath.floor(worldBorder.getCenterX() + radius);
-        int worldBorderMaxZ = GenericMath.floor(worldBorder.getCenterZ() + radius);
+        final int worldBorderMinX = GenericMath.floor(worldBorder.getCenterX() - radius);
+        final int worldBorderMinZ = GenericMath.floor(worldBorder.getCenterZ() - radius);
+        final int worldBorderMaxX = GenericMath.floor(worldBorder.getCenterX() + radius);
+        final int worldBorderMaxZ = GenericMath.floor(worldBorder.getCenterZ() + radius);
 
         // Get the World and get the maximum Y value.
-        int worldMaxY = worldLocation.world().max().y();
+        final int worldMaxY = worldLocation.world().max().y();
 
-        Vector3i vectorLocation = worldLocation.blockPosition();
+        final Vector3i vectorLocation = worldLocation.blockPosition();
 
         // We use clamp to remain within the world confines, so we don't waste time checking blocks outside of the
         // world border and the world height.
-        int minY = GenericMath.clamp(vectorLocation.y() - height, 0, worldMaxY);
-        int maxY = GenericMath.clamp(vectorLocation.y() + height, 0, worldMaxY);
+        final int minY = GenericMath.clamp(vectorLocation.y() - height, 0, worldMaxY);
+        final int maxY = GenericMath.clamp(vectorLocation.y() + height, 0, worldMaxY);
 
-        int minX = GenericMath.clamp(vectorLocation.x() - width, worldBorderMinX, worldBorderMaxX);
-        int maxX = GenericMath.clamp(vectorLocation.x() + width, worldBorderMinX, worldBorderMaxX);
+        final int minX = GenericMath.clamp(vectorLocation.x() - width, worldBorderMinX, worldBorderMaxX);
+        final int maxX = GenericMath.clamp(vectorLocation.x() + width, worldBorderMinX, worldBorderMaxX);
 
-        int minZ = GenericMath.clamp(vectorLocation.z() - width, worldBorderMinZ, worldBorderMaxZ);
-        int maxZ = GenericMath.clamp(vectorLocation.z() + width, worldBorderMinZ, worldBorderMaxZ);
+        final int minZ = GenericMath.clamp(vectorLocation.z() - width, worldBorderMinZ, worldBorderMaxZ);
+        final int maxZ = GenericMath.clamp(vectorLocation.z() + width, worldBorderMinZ, worldBorderMaxZ);
 
-        // We now iterate over all possible x, y and z positions to get all possible vectors.
-        List<Vector3i> vectors = new ArrayList<>();
-        for (int y = minY; y <= maxY; y++) {
-            for (int x = minX; x <= maxX; x++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    vectors.add(new Vector3i(x, y, z));
-                }
-            }
-        }
-
-        Comparator<Vector3i> c = Comparator.comparingInt(vectorLocation::distanceSquared);
-
-        // The compiler seems to need this to be a new line.
-        // We check to see what the y location is, preferring changes in Y over X and Z, and higher over lower locations.
-        c = c.thenComparing(x -> -Math.abs(vectorLocation.y() - x.y())).thenComparing(x -> -x.y());
-
-        // Sort them according to the distance to the provided worldLocation.
-        return vectors.stream().sorted(c);
+        return new SearchRegion(vectorLocation, new Vector3i(minX, minY, minZ), new Vector3i(maxX, maxY, maxZ));
     }
 
-    private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> positionsToCheck, int floorDistanceCheck,
-            Collection<TeleportHelperFilter> filters) {
+    private Optional<Vector3i> getSafeLocation(final ServerWorld world, final SearchRegion region, final int floorDistanceCheck,
+            final Collection<TeleportHelperFilter> filters) {
         // We cache the various block lookup results so we don't check a block twice.
-        final Map<Vector3i, BlockData> blockCache = new HashMap<>();
+        final BlockDataCache blockCache = new BlockDataCache((ServerLevel) world, region, floorDistanceCheck);
 
-        return positionsToCheck.filter(currentTarget -> {
-            List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
-            for (TeleportHelperFilter filter : filters) {
+        return region.positions().filter(currentTarget -> {
+            final List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
+            for (final TeleportHelperFilter filter : filters) {
                 // If any return Tristate.FALSE, we're not safe.
-                Tristate isValid = filter.isValidLocation(world, currentTarget);
+                final Tristate isValid = filter.isValidLocation(world, currentTarget);
                 if (isValid == Tristate.FALSE) {
                     // Completely fails the AND check at this point.
                     return false;
@@ -141,16 +133,16 @@ private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> p
                 return true;
             }
 
-            // Get the block, add it to the cache.
-            BlockData block = this.getBlockData(currentTarget, world, blockCache, undefinedResults);
+            final int x = currentTarget.x();
+            final int y = currentTarget.y();
+            final int z = currentTarget.z();
 
             // If the block isn't safe, no point in continuing on this run.
-            if (block.isSafeBody) {
+            if (blockCache.isSafeBody(x, y, z, undefinedResults)) {
 
                 // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
-                if (this.getBlockData(
-                    currentTarget.add(0, 1, 0), world, blockCache, undefinedResults).isSafeBody
-                        && (floorDistanceCheck <= 0 || this.isFloorSafe(currentTarget, world, blockCache, undefinedResults, floorDistanceCheck))) {
+                if (blockCache.isSafeBody(x, y + 1, z, undefinedResults)
+                        && (floorDistanceCheck <= 0 || this.isFloorSafe(x, y, z, blockCache, undefinedResults, floorDistanceCheck))) {
 
                     // This position should be safe. Get the center of the block to spawn into.
                     return true;
@@ -161,54 +153,270 @@ private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> p
         }).findFirst();
     }
 
-    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache, Collection<TeleportHelperFilter> filters,
-            int floorDistanceCheck) {
+    private boolean isFloorSafe(final int x, final int y, final int z, final BlockDataCache blockCache,
+            final Collection<TeleportHelperFilter> filters, final int floorDistanceCheck) {
         for (int i = 1; i < floorDistanceCheck; ++i) {
-            BlockData data = this.getBlockData(currentTarget.sub(0, i, 0), world, blockCache, filters);
-
             // If it's a safe floor, we can just say yes now.
-            if (data.isSafeFloor) {
+            if (blockCache.isSafeFloor(x, y - i, z, filters)) {
                 return true;
             }
 
             // If it's not safe for the body, then we don't want to go through it anyway.
-            if (!data.isSafeBody) {
+            if (!blockCache.isSafeBody(x, y - i, z, filters)) {
                 return false;
             }
         }
 
         // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
-        return this.getBlockData(currentTarget.sub(0, floorDistanceCheck, 0), world, blockCache, filters).isSafeFloor;
+        return blockCache.isSafeFloor(x, y - floorDistanceCheck, z, filters);
     }
 
-    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache, Collection<TeleportHelperFilter> filters) {
-        if (vector3i.y() < 0) {
-            // Anything below this isn't safe, no point going further.
-            return new BlockData();
+    /**
+     * The box to search, clamped to the world border and height.
+     */
+    private record SearchRegion(Vector3i centre, Vector3i min, Vector3i max) {
+
+        /**
+         * Lazily generates the positions in this region, closest to the
+         * centre first. Positions at the same distance prefer changes in Y
+         * over X and Z, and higher over lower locations.
+         */
+        Stream<Vector3i> positions() {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new ShellIterator(this),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+        }
+
+    }
+
+    /**
+     * Walks a {@link SearchRegion} in shells of increasing squared distance.
+     *
+     * <p>The horizontal offsets are sorted by their squared distance once. As
+     * the squared horizontal distance needed for a fixed vertical offset only
+     * grows from one shell to the next, every vertical offset keeps its own
+     * cursor into those offsets, so each shell is found without scanning the
+     * region.</p>
+     */
+    private static final class ShellIterator implements Iterator<Vector3i> {
+
+        private final int centreX;
+        private final int centreY;
+        private final int centreZ;
+        private final int minY;
+        private final int maxY;
+        // packed as (dx, dz) pairs, sorted by dx * dx + dz * dz, then x, then z
+        private final long[] horizontal;
+        private final int[] horizontalDistance;
+        // per vertical offset, the first horizontal offset not yet emitted
+        private final int[] cursors;
+
+        private long shell = -1;
+        // position within the current shell
+        private int verticalOffset;
+        private boolean below;
+        private int index;
+        private @Nullable Vector3i next;
+
+        ShellIterator(final SearchRegion region) {
+            this.centreX = region.centre.x();
+            this.centreY = region.centre.y();
+            this.centreZ = region.centre.z();
+            this.minY = region.min.y();
+            this.maxY = region.max.y();
+
+            final int sizeX = Math.max(0, region.max.x() - region.min.x() + 1);
+            final int sizeZ = Math.max(0, region.max.z() - region.min.z() + 1);
+            final long[] sortKeys = new long[sizeX * sizeZ];
+            int i = 0;
+            for (int x = region.min.x(); x <= region.max.x(); x++) {
+                for (int z = region.min.z(); z <= region.max.z(); z++) {
+                    final long dx = x - this.centreX;
+                    final long dz = z - this.centreZ;
+                    // distance in the high bits, generation order (x, then z) in the low bits
+                    sortKeys[i] = ((dx * dx + dz * dz) << 32) | i;
+                    i++;
+                }
+            }
+            Arrays.sort(sortKeys);
+            this.horizontal = new long[sortKeys.length];
+            this.horizontalDistance = new int[sortKeys.length];
+            for (int j = 0; j < sortKeys.length; j++) {
+                final int generated = (int) sortKeys[j];
+                final int dx = region.min.x() + generated / sizeZ - this.centreX;
+                final int dz = region.min.z() + generated % sizeZ - this.centreZ;
+                this.horizontal[j] = ((long) dx << 32) | (dz & 0xFFFFFFFFL);
+                this.horizontalDistance[j] = (int) (sortKeys[j] >>> 32);
+            }
+
+            final int maxVerticalOffset = Math.max(Math.abs(this.minY - this.centreY), Math.abs(this.maxY - this.centreY));
+            this.cursors = new int[this.minY > this.maxY ? 0 : maxVerticalOffset + 1];
+            this.verticalOffset = -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null) {
+                this.next = this.computeNext();
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public Vector3i next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Vector3i result = this.next;
+            this.next = null;
+            return result;
+        }
+
+        private @Nullable Vector3i computeNext() {
+            while (true) {
+                // Continue within the current shell, from the largest vertical offset down
+                while (this.verticalOffset >= 0) {
+                    final int dy = this.below ? -this.verticalOffset : this.verticalOffset;
+                    final int y = this.centreY + dy;
+                    final long required = this.shell - (long) this.verticalOffset * this.verticalOffset;
+                    if (y >= this.minY && y <= this.maxY && this.index < this.horizontal.length
+                            && this.horizontalDistance[this.index] == required) {
+                        final long offset = this.horizontal[this.index++];
+                        return new Vector3i(this.centreX + (int) (offset >> 32), y, this.centreZ + (int) offset);
+                    }
+                    this.advanceRow(required);
+                }
+                if (!this.nextShell()) {
+                    return null;
+                }
+            }
+        }
+
+        private void advanceRow(final long required) {
+            if (!this.below && this.verticalOffset != 0) {
+                // Same horizontal offsets again, below the centre
+                this.below = true;
+                this.index = this.cursors[this.verticalOffset];
+                return;
+            }
+            // Both rows at this vertical offset are done, skip past this shell's offsets for it
+            int cursor = this.cursors[this.verticalOffset];
+            while (cursor < this.horizontal.length && this.horizontalDistance[cursor] <= required) {
+                cursor++;
+            }
+            this.cursors[this.verticalOffset] = cursor;
+            this.verticalOffset--;
+            this.below = false;
+            if (this.verticalOffset >= 0) {
+                this.index = this.cursors[this.verticalOffset];
+            }
         }
 
-        if (cache.containsKey(vector3i)) {
-            return cache.get(vector3i);
+        private boolean nextShell() {
+            long smallest = Long.MAX_VALUE;
+            for (int a = 0; a < this.cursors.length; a++) {
+                final int cursor = this.cursors[a];
+                if (cursor < this.horizontal.length && this.hasRowInRange(a)) {
+                    smallest = Math.min(smallest, this.horizontalDistance[cursor] + (long) a * a);
+                }
+            }
+            if (smallest == Long.MAX_VALUE) {
+                return false;
+            }
+            this.shell = smallest;
+            this.verticalOffset = this.cursors.length - 1;
+            this.below = false;
+            this.index = this.cursors[this.verticalOffset];
+            return true;
+        }
+
+        private boolean hasRowInRange(final int verticalOffset) {
+            final int above = this.centreY + verticalOffset;
+            final int below = this.centreY - verticalOffset;
+            return (above >= this.minY && above <= this.maxY) || (below >= this.minY && below <= this.maxY);
         }
 
-        BlockData data = new BlockData(world.block(vector3i), filters);
-        cache.put(vector3i, data);
-        return data;
     }
 
-    private class BlockData {
+    /**
+     * Caches the safety of the blocks around a {@link SearchRegion} in bit
+     * sets, reading the block states straight from the chunk sections.
+     */
+    private static final class BlockDataCache {
+
+        private static final int KNOWN = 0;
+        private static final int SAFE_FLOOR = 1;
+        private static final int SAFE_BODY = 2;
+
+        private final ServerLevel level;
+        private final int minX;
+        private final int minY;
+        private final int minZ;
+        private final int sizeX;
+        private final int sizeY;
+        private final int sizeZ;
+        private final BitSet bits = new BitSet();
+        private @Nullable LevelChunk chunk;
+
+        BlockDataCache(final ServerLevel level, final SearchRegion region, final int floorDistanceCheck) {
+            this.level = level;
+            this.minX = region.min.x();
+            // the floor is checked below the region, the head above it
+            this.minY = region.min.y() - Math.max(0, floorDistanceCheck);
+            this.minZ = region.min.z();
+            this.sizeX = Math.max(0, region.max.x() - this.minX + 1);
+            this.sizeY = Math.max(0, region.max.y() + 1 - this.minY + 1);
+            this.sizeZ = Math.max(0, region.max.z() - this.minZ + 1);
+        }
 
-        private final boolean isSafeFloor;
-        private final boolean isSafeBody;
+        boolean isSafeFloor(final int x, final int y, final int z, final Collection<TeleportHelperFilter> filters) {
+            return this.get(x, y, z, filters, BlockDataCache.SAFE_FLOOR);
+        }
+
+        boolean isSafeBody(final int x, final int y, final int z, final Collection<TeleportHelperFilter> filters) {
+            return this.get(x, y, z, filters, BlockDataCache.SAFE_BODY);
+        }
+
+        private boolean get(final int x, final int y, final int z, final Collection<TeleportHelperFilter> filters, final int flag) {
+            if (y < 0) {
+                // Anything below this isn't safe, no point going further.
+                return false;
+            }
 
-        private BlockData() {
-            this.isSafeFloor = false;
-            this.isSafeBody = false;
+            final int rx = x - this.minX;
+            final int ry = y - this.minY;
+            final int rz = z - this.minZ;
+            if (rx < 0 || rx >= this.sizeX || ry < 0 || ry >= this.sizeY || rz < 0 || rz >= this.sizeZ) {
+                final BlockState state = this.block(x, y, z);
+                return flag == BlockDataCache.SAFE_FLOOR
+                    ? filters.stream().allMatch(f -> f.isSafeFloorMaterial(state))
+                    : filters.stream().allMatch(f -> f.isSafeBodyMaterial(state));
+            }
+
+            final int base = (((ry * this.sizeX) + rx) * this.sizeZ + rz) * 3;
+            if (!this.bits.get(base + BlockDataCache.KNOWN)) {
+                final BlockState state = this.block(x, y, z);
+                this.bits.set(base + BlockDataCache.KNOWN);
+                this.bits.set(base + BlockDataCache.SAFE_FLOOR, filters.stream().allMatch(f -> f.isSafeFloorMaterial(state)));
+                this.bits.set(base + BlockDataCache.SAFE_BODY, filters.stream().allMatch(f -> f.isSafeBodyMaterial(state)));
+            }
+            return this.bits.get(base + flag);
         }
 
-        private BlockData(BlockState blockState, Collection<TeleportHelperFilter> filters) {
-            this.isSafeFloor = filters.stream().allMatch(x -> x.isSafeFloorMaterial(blockState));
-            this.isSafeBody = filters.stream().allMatch(x -> x.isSafeBodyMaterial(blockState));
+        private BlockState block(final int x, final int y, final int z) {
+            LevelChunk chunk = this.chunk;
+            if (chunk == null || chunk.getPos().x != x >> 4 || chunk.getPos().z != z >> 4) {
+                chunk = this.level.getChunk(x >> 4, z >> 4);
+                this.chunk = chunk;
+            }
+            final int sectionIndex = chunk.getSectionIndex(y);
+            if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) {
+                return (BlockState) Blocks.VOID_AIR.defaultBlockState();
+            }
+            final LevelChunkSection section = chunk.getSection(sectionIndex);
+            if (section.hasOnlyAir()) {
+                return (BlockState) Blocks.AIR.defaultBlockState();
+            }
+            return (BlockState) section.getBlockState(x & 15, y & 15, z & 15);
         }
 
     }
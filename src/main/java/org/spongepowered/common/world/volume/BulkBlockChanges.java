@@ -0,0 +1,178 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.EntityBlock;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import net.minecraft.world.level.lighting.LightEngine;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.accessor.world.level.chunk.LevelChunkAccessor;
+
+/**
+ * Writes block changes of a volume stream application straight into the
+ * {@link LevelChunkSection sections} of a {@link ServerLevel}, bypassing the
+ * per-block transaction capturing, neighbor notifications and block physics
+ * of {@link ServerLevel#setBlock(BlockPos, BlockState, int)}.
+ *
+ * <p>Light checks are collected per section and queued once the application
+ * completes, while clients receive the changes through the chunk holders,
+ * which already send a single packet per touched section.</p>
+ */
+public final class BulkBlockChanges {
+
+    private static final Heightmap.Types[] HEIGHTMAPS = {
+        Heightmap.Types.MOTION_BLOCKING,
+        Heightmap.Types.MOTION_BLOCKING_NO_LEAVES,
+        Heightmap.Types.OCEAN_FLOOR,
+        Heightmap.Types.WORLD_SURFACE
+    };
+
+    private final ServerLevel level;
+    // Keyed by section, in the order the sections were first touched
+    private final Long2ObjectMap<Section> sections = new Long2ObjectLinkedOpenHashMap<>();
+    private @Nullable LevelChunk lastChunk;
+    private int changed;
+
+    public BulkBlockChanges(final ServerLevel level) {
+        this.level = level;
+    }
+
+    public ServerLevel level() {
+        return this.level;
+    }
+
+    public int changed() {
+        return this.changed;
+    }
+
+    /**
+     * Sets the block state at the given position.
+     *
+     * @param pos The position
+     * @param state The new block state
+     * @return Whether the block state changed
+     */
+    public boolean setBlock(final BlockPos pos, final BlockState state) {
+        final LevelChunk chunk = this.chunk(pos.getX() >> 4, pos.getZ() >> 4);
+        final LevelChunkSection levelSection = chunk.getSection(chunk.getSectionIndex(pos.getY()));
+        final int x = pos.getX() & 15;
+        final int y = pos.getY() & 15;
+        final int z = pos.getZ() & 15;
+
+        final Section section = this.sections.computeIfAbsent(SectionPos.asLong(pos), key -> new Section(levelSection.hasOnlyAir()));
+        final BlockState old = levelSection.setBlockState(x, y, z, state, false);
+        if (old == state) {
+            return false;
+        }
+
+        for (final Heightmap.Types type : BulkBlockChanges.HEIGHTMAPS) {
+            chunk.getOrCreateHeightmapUnprimed(type).update(x, pos.getY(), z, state);
+        }
+
+        if (old.hasBlockEntity() && !old.is(state.getBlock())) {
+            chunk.removeBlockEntity(pos);
+        }
+        if (state.hasBlockEntity()) {
+            final @Nullable BlockEntity existing = chunk.getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+            if (existing != null) {
+                existing.setBlockState(state);
+                // As LevelChunk#setBlockState does, since the ticker may depend on the state
+                ((LevelChunkAccessor) chunk).accessor$updateBlockEntityTicker(existing);
+            } else {
+                final @Nullable BlockEntity created = ((EntityBlock) state.getBlock()).newBlockEntity(pos.immutable(), state);
+                if (created != null) {
+                    chunk.addAndRegisterBlockEntity(created);
+                }
+            }
+        }
+
+        if (LightEngine.hasDifferentLightProperties(chunk, pos, old, state)) {
+            chunk.getSkyLightSources().update(chunk, x, pos.getY(), z);
+            section.lightChecks.add(pos.asLong());
+        }
+
+        this.level.onBlockStateChange(pos, old, state);
+        this.level.getChunkSource().blockChanged(pos);
+        chunk.setUnsaved(true);
+        this.changed++;
+        return true;
+    }
+
+    /**
+     * Queues the light updates of every touched section. Called once the
+     * volume stream application completes.
+     */
+    public void finish() {
+        final LevelLightEngine lightEngine = this.level.getChunkSource().getLightEngine();
+        for (final Long2ObjectMap.Entry<Section> entry : this.sections.long2ObjectEntrySet()) {
+            final SectionPos sectionPos = SectionPos.of(entry.getLongKey());
+            final Section section = entry.getValue();
+            final LevelChunk chunk = this.chunk(sectionPos.x(), sectionPos.z());
+            final boolean onlyAir = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionPos.y())).hasOnlyAir();
+            if (onlyAir != section.wasOnlyAir) {
+                lightEngine.updateSectionStatus(sectionPos, onlyAir);
+            }
+            final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            for (final LongIterator iterator = section.lightChecks.iterator(); iterator.hasNext(); ) {
+                lightEngine.checkBlock(pos.set(iterator.nextLong()));
+            }
+        }
+        this.sections.clear();
+        this.lastChunk = null;
+    }
+
+    private LevelChunk chunk(final int chunkX, final int chunkZ) {
+        final @Nullable LevelChunk last = this.lastChunk;
+        if (last != null && last.getPos().x == chunkX && last.getPos().z == chunkZ) {
+            return last;
+        }
+        final LevelChunk chunk = this.level.getChunk(chunkX, chunkZ);
+        this.lastChunk = chunk;
+        return chunk;
+    }
+
+    private static final class Section {
+
+        final boolean wasOnlyAir;
+        final LongSet lightChecks = new LongLinkedOpenHashSet();
+
+        Section(final boolean wasOnlyAir) {
+            this.wasOnlyAir = wasOnlyAir;
+        }
+    }
+}
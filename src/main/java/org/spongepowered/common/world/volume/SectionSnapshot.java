@@ -0,0 +1,130 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * A private copy of the paletted section storage covering a region. Taking
+ * the copy must happen on the thread that owns the sections, after which the
+ * snapshot is never written to again and may be read from any thread. Later
+ * changes to the copied sections are not visible through the snapshot.
+ *
+ * @param <T> The type of value stored in the sections
+ */
+public final class SectionSnapshot<T> {
+
+    private final int minSectionX;
+    private final int minSectionY;
+    private final int minSectionZ;
+    private final int sectionsX;
+    private final int sectionsY;
+    private final int sectionsZ;
+    private final T defaultValue;
+    // Sections holding only the default value are left null
+    private final @Nullable PalettedContainer<T>[] sections;
+
+    @SuppressWarnings("unchecked")
+    private SectionSnapshot(final Vector3i min, final Vector3i max, final T defaultValue) {
+        this.minSectionX = min.x() >> 4;
+        this.minSectionY = min.y() >> 4;
+        this.minSectionZ = min.z() >> 4;
+        this.sectionsX = (max.x() >> 4) - this.minSectionX + 1;
+        this.sectionsY = (max.y() >> 4) - this.minSectionY + 1;
+        this.sectionsZ = (max.z() >> 4) - this.minSectionZ + 1;
+        this.defaultValue = defaultValue;
+        this.sections = new PalettedContainer[this.sectionsX * this.sectionsY * this.sectionsZ];
+    }
+
+    /**
+     * Copies the sections covering the given block region.
+     *
+     * @param min The minimum block position
+     * @param max The maximum block position
+     * @param defaultValue The value of positions without a section
+     * @param accessor The accessor of the live sections
+     * @param <T> The type of value stored in the sections
+     * @return The snapshot
+     */
+    public static <T> SectionSnapshot<T> copyOf(final Vector3i min, final Vector3i max, final T defaultValue,
+        final SectionAccessor<T> accessor
+    ) {
+        final SectionSnapshot<T> snapshot = new SectionSnapshot<>(min, max, defaultValue);
+        for (int x = 0; x < snapshot.sectionsX; x++) {
+            for (int z = 0; z < snapshot.sectionsZ; z++) {
+                for (int y = 0; y < snapshot.sectionsY; y++) {
+                    final @Nullable PalettedContainer<T> section = accessor.section(
+                        snapshot.minSectionX + x, snapshot.minSectionY + y, snapshot.minSectionZ + z);
+                    if (section != null) {
+                        snapshot.sections[snapshot.index(x, y, z)] = section.copy();
+                    }
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets the value at the given block position, which must be within the
+     * sections covered by this snapshot.
+     *
+     * @param x The block x position
+     * @param y The block y position
+     * @param z The block z position
+     * @return The value
+     */
+    public T get(final int x, final int y, final int z) {
+        final @Nullable PalettedContainer<T> section = this.sections[this.index(
+            (x >> 4) - this.minSectionX, (y >> 4) - this.minSectionY, (z >> 4) - this.minSectionZ)];
+        if (section == null) {
+            return this.defaultValue;
+        }
+        return section.get(x & 15, y & 15, z & 15);
+    }
+
+    private int index(final int x, final int y, final int z) {
+        if (x < 0 || x >= this.sectionsX || y < 0 || y >= this.sectionsY || z < 0 || z >= this.sectionsZ) {
+            throw new IndexOutOfBoundsException(String.format("Section (%d, %d, %d) is not part of this snapshot",
+                x + this.minSectionX, y + this.minSectionY, z + this.minSectionZ));
+        }
+        return (x * this.sectionsZ + z) * this.sectionsY + y;
+    }
+
+    @FunctionalInterface
+    public interface SectionAccessor<T> {
+
+        /**
+         * Gets the live section at the given section position.
+         *
+         * @param sectionX The section x position
+         * @param sectionY The section y position
+         * @param sectionZ The section z position
+         * @return The section, or null if it only holds the default value
+         */
+        @Nullable PalettedContainer<T> section(int sectionX, int sectionY, int sectionZ);
+    }
+}
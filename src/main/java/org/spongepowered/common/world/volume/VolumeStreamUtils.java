@@ -38,6 +38,7 @@
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
@@ -70,6 +71,8 @@
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.blockentity.ObjectArrayMutableBlockEntityBuffer;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptions;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptionsBuilder;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -83,6 +86,7 @@
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -163,7 +167,115 @@ public static Function<ChunkAccess, Stream<Map.Entry<BlockPos, BlockState>>> get
         final Vector3i min,
         final Vector3i max
     ) {
-        return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBlockStateGetter(), min, max);
+        return VolumeStreamUtils.getBlockStatesForSections(min, max, null);
+    }
+
+    /**
+     * Gets the block states within the given bounds of a chunk, visiting one
+     * {@link LevelChunkSection} at a time. When a {@code stateFilter} is
+     * provided, only the states it accepts are returned, and any section whose
+     * palette cannot contain such a state is skipped without being read.
+     *
+     * @param min The minimum block position
+     * @param max The maximum block position
+     * @param stateFilter The filter of states to return, or null for all
+     * @return The function providing the block states of a chunk
+     */
+    public static Function<ChunkAccess, Stream<Map.Entry<BlockPos, BlockState>>> getBlockStatesForSections(
+        final Vector3i min,
+        final Vector3i max,
+        final @Nullable Predicate<BlockState> stateFilter
+    ) {
+        final ChunkCursor minCursor = new ChunkCursor(min);
+        final ChunkCursor maxCursor = new ChunkCursor(max);
+
+        return chunk -> {
+            final LevelChunkSection[] sections = chunk.getSections();
+            return VolumeStreamUtils.getSectionElements(chunk.getPos(), chunk.getMinSection(), sections.length,
+                i -> sections[i].getStates(), minCursor, maxCursor, stateFilter);
+        };
+    }
+
+    /**
+     * Gets lazy stream options that leave out plain air, for copying blocks
+     * into a buffer that already defaults to it. Sections holding nothing but
+     * plain air are then skipped without being read.
+     *
+     * @return The stream options
+     */
+    public static StreamOptions lazilyWithoutAir() {
+        final org.spongepowered.api.block.BlockState air = (org.spongepowered.api.block.BlockState) Blocks.AIR.defaultBlockState();
+        return new SpongeStreamOptionsBuilder()
+            .setStateFilter(state -> state != air)
+            .setLoadingStyle(StreamOptions.LoadingStyle.LAZILY_UNGENERATED)
+            .build();
+    }
+
+    /**
+     * Gets the native block state filter requested by the given options, if
+     * any, see {@link SpongeStreamOptions#stateFilter()}.
+     *
+     * @param options The stream options
+     * @return The block state filter, or null to stream every block state
+     */
+    public static @Nullable Predicate<BlockState> stateFilter(final StreamOptions options) {
+        if (options instanceof SpongeStreamOptions spongeOptions && spongeOptions.stateFilter() != null) {
+            final Predicate<org.spongepowered.api.block.BlockState> filter = spongeOptions.stateFilter();
+            return state -> filter.test((org.spongepowered.api.block.BlockState) state);
+        }
+        return null;
+    }
+
+    static <T> Stream<Map.Entry<BlockPos, T>> getSectionElements(
+        final ChunkPos pos,
+        final int minSection,
+        final int sectionCount,
+        final IntFunction<PalettedContainer<T>> sections,
+        final ChunkCursor minCursor,
+        final ChunkCursor maxCursor,
+        final @Nullable Predicate<T> filter
+    ) {
+        final int xStart = pos.x == minCursor.chunkX ? minCursor.xOffset : 0;
+        final int xEnd = pos.x == maxCursor.chunkX ? maxCursor.xOffset : 15;
+        final int zStart = pos.z == minCursor.chunkZ ? minCursor.zOffset : 0;
+        final int zEnd = pos.z == maxCursor.chunkZ ? maxCursor.zOffset : 15;
+        final int xSize = xEnd - xStart + 1;
+        final int zSize = zEnd - zStart + 1;
+
+        final int chunkMinX = pos.x << 4;
+        final int chunkMinZ = pos.z << 4;
+
+        return IntStream.range(0, sectionCount)
+            .filter(i -> {
+                final int sectionY = SectionPos.sectionToBlockCoord(minSection + i);
+                return sectionY >= minCursor.ySection && sectionY <= maxCursor.ySection;
+            })
+            .mapToObj(i -> {
+                final PalettedContainer<T> section = sections.apply(i);
+                // The palette lists every state a section may hold, so we can rule out a section without reading it
+                if (filter != null && !section.maybeHas(filter)) {
+                    return Stream.<Map.Entry<BlockPos, T>>empty();
+                }
+                final int sectionY = SectionPos.sectionToBlockCoord(minSection + i);
+                final int yStart = sectionY == minCursor.ySection ? minCursor.yOffset : 0;
+                final int yEnd = sectionY == maxCursor.ySection ? maxCursor.yOffset : 15;
+                final int ySize = yEnd - yStart + 1;
+
+                // Walks z, then x, then y, reading each position only once the stream reaches it
+                return IntStream.range(0, xSize * zSize * ySize)
+                    .<Map.Entry<BlockPos, T>>mapToObj(index -> {
+                        final int y = yStart + index % ySize;
+                        final int x = xStart + index / ySize % xSize;
+                        final int z = zStart + index / (ySize * xSize);
+                        final T element = section.get(x, y, z);
+                        if (filter != null && !filter.test(element)) {
+                            return null;
+                        }
+                        return new AbstractMap.SimpleEntry<>(new BlockPos(x + chunkMinX, y + sectionY, z + chunkMinZ), element);
+                    })
+                    .filter(Objects::nonNull);
+            })
+            .flatMap(Function.identity());
     }
 
     public static boolean setBiomeOnNativeChunk(final int x, final int y, final int z,
@@ -369,13 +481,6 @@ private static QuadFunction<ChunkAccess, LevelChunkSection, BlockPos, LevelReade
         );
     }
 
-    private static TriFunction<ChunkAccess, LevelChunkSection, BlockPos, BlockState> chunkSectionBlockStateGetter() {
-        return ((chunk, chunkSection, pos) -> chunkSection.getBlockState(
-            pos.getX() - (chunk.getPos().x << 4),
-            pos.getY() & 15,
-            pos.getZ() - (chunk.getPos().z << 4)));
-    }
-
     private static <T> Function<ChunkAccess, Stream<Map.Entry<BlockPos, T>>> getElementByPosition(
         final TriFunction<ChunkAccess, LevelChunkSection, BlockPos, T> elementAccessor, final Vector3i min,
         final Vector3i max
@@ -453,7 +558,7 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
             // Biome by block position
             (key, biome) -> key,
             // Entity Accessor
-            VolumeStreamUtils.getBlockStatesForSections(min, max),
+            VolumeStreamUtils.getBlockStatesForSections(min, max, VolumeStreamUtils.stateFilter(options)),
             // Filtered Position Entity Accessor
             VolumeStreamUtils.getBlockStateFromThisOrCopiedVolume(shouldCarbonCopy, backingVolume)
         );
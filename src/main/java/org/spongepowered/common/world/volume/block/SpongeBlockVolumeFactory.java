@@ -31,10 +31,10 @@
 import org.spongepowered.api.world.schematic.Palette;
 import org.spongepowered.api.world.volume.block.BlockVolume;
 import org.spongepowered.api.world.volume.block.BlockVolumeFactory;
-import org.spongepowered.api.world.volume.stream.StreamOptions;
 import org.spongepowered.api.world.volume.stream.VolumeApplicators;
 import org.spongepowered.api.world.volume.stream.VolumeCollectors;
 import org.spongepowered.api.world.volume.stream.VolumePositionTranslators;
+import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.block.ArrayImmutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.block.BlockBackingData;
@@ -57,7 +57,7 @@ public BlockVolume.Mutable copyFromRange(
         final BlockVolume.Streamable<@NonNull ?> existing, final Vector3i newMin, final Vector3i newMax
     ) {
         final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(newMin, newMax.sub(newMin).add(Vector3i.ONE));
-        existing.blockStateStream(newMin, newMax, StreamOptions.lazily())
+        existing.blockStateStream(newMin, newMax, VolumeStreamUtils.lazilyWithoutAir())
             .apply(VolumeCollectors.of(buffer, VolumePositionTranslators.identity(), VolumeApplicators.applyBlocks()));
         return buffer;
     }
@@ -66,7 +66,7 @@ public BlockVolume.Mutable copyFromRange(
     public BlockVolume.Mutable copy(final BlockVolume.Streamable<@NonNull ?> existing
     ) {
         final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(existing.min(), existing.size());
-        existing.blockStateStream(existing.min(), existing.max(), StreamOptions.lazily())
+        existing.blockStateStream(existing.min(), existing.max(), VolumeStreamUtils.lazilyWithoutAir())
             .apply(VolumeCollectors.of(buffer, VolumePositionTranslators.identity(), VolumeApplicators.applyBlocks()));
         return buffer;
     }
@@ -81,7 +81,7 @@ public BlockVolume.Immutable immutableOf(final BlockVolume.Streamable<@NonNull ?
             existing.min(),
             existing.size()
         );
-        existing.blockStateStream(existing.min(), existing.max(), StreamOptions.lazily())
+        existing.blockStateStream(existing.min(), existing.max(), VolumeStreamUtils.lazilyWithoutAir())
             .apply(VolumeCollectors.of(buffer, VolumePositionTranslators.identity(), VolumeApplicators.applyBlocks()));
         return this.createImmutableFromBufferData(buffer);
     }
@@ -96,7 +96,7 @@ private ArrayImmutableBlockBuffer createImmutableFromBufferData(final ArrayMutab
     public BlockVolume.Immutable immutableOf(final BlockVolume.Streamable<@NonNull ?> existing, final Vector3i newMin, final Vector3i newMax
     ) {
         final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(newMin, newMax.sub(newMin).add(Vector3i.ONE));
-        existing.blockStateStream(newMin, newMax, StreamOptions.lazily())
+        existing.blockStateStream(newMin, newMax, VolumeStreamUtils.lazilyWithoutAir())
             .apply(VolumeCollectors.of(buffer, VolumePositionTranslators.identity(), VolumeApplicators.applyBlocks()));
         return this.createImmutableFromBufferData(buffer);
     }
@@ -83,14 +83,8 @@ public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, fin
 
         final int dataSize = this.area();
         this.defaultState = defaultState;
-        this.data = new BlockBackingData.PackedBackingData(dataSize, palette.highestId());
-
         // all blocks default to air
-        if (airId != 0) {
-            for (int i = 0; i < dataSize; i++) {
-                this.data.set(i, airId);
-            }
-        }
+        this.data = BlockBackingData.create(dataSize, palette.highestId(), airId);
         this.registries = Sponge.game();
     }
 
@@ -131,7 +125,7 @@ public boolean setBlock(final int x, final int y, final int z, final BlockState
 
             final int highId = this.palette.highestId();
             final int dataSize = this.area();
-            final BlockBackingData newdata = new BlockBackingData.PackedBackingData(dataSize, highId);
+            final BlockBackingData newdata = BlockBackingData.create(dataSize, highId, 0);
             for (int i = 0; i < dataSize; i++) {
                 newdata.set(i, this.data.get(i));
             }
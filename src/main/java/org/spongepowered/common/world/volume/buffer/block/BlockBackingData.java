@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.world.volume.buffer.block;
 
-import net.minecraft.util.Mth;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
@@ -55,6 +54,30 @@ public interface BlockBackingData {
      */
     int getMax();
 
+    /**
+     * Creates backing data for {@code size} ids, all set to {@code defaultValue}.
+     * Data larger than a single segment is segmented, so that it never needs one
+     * huge array and so that growing the ids only rewrites the segments that
+     * need it.
+     *
+     * @param size The number of elements
+     * @param highestValue The highest value to prepare for
+     * @param defaultValue The initial value of every element
+     * @return The backing data
+     */
+    static BlockBackingData create(final int size, final int highestValue, final int defaultValue) {
+        if (size > SegmentedBackingData.SEGMENT_SIZE) {
+            return new SegmentedBackingData(size, highestValue, defaultValue);
+        }
+        final PackedBackingData data = new PackedBackingData(size, Math.max(highestValue, defaultValue));
+        if (defaultValue != 0) {
+            for (int i = 0; i < size; i++) {
+                data.set(i, defaultValue);
+            }
+        }
+        return data;
+    }
+
     class CharBackingData implements BlockBackingData {
 
         private final char[] data;
@@ -131,7 +154,7 @@ public PackedBackingData(final int size, final int highestValue) {
             this.bits = bits;
 
             this.maxValue = (1 << bits) - 1;
-            this.longArray = new long[PackedBackingData.roundUp(size * bits, Long.SIZE) / Long.SIZE];
+            this.longArray = new long[Math.toIntExact(PackedBackingData.roundUp((long) size * bits, Long.SIZE) / Long.SIZE)];
         }
 
         private PackedBackingData(final int size, final int bits, final long[] array) {
@@ -141,18 +164,18 @@ private PackedBackingData(final int size, final int bits, final long[] array) {
             this.longArray = array;
         }
 
-        private static int roundUp(final int number, final int interval) {
+        private static long roundUp(final long number, final int interval) {
             if (number == 0) {
                 return interval;
             }
-            return Mth.roundToward(number, interval);
+            return (number + interval - 1) / interval * interval;
         }
 
         @Override
         public void set(final int index, final int value) {
-            final int bitIndex = index * this.bits;
-            int longIndex = bitIndex / Long.SIZE;
-            final int bitOffset = bitIndex % Long.SIZE;
+            final long bitIndex = (long) index * this.bits;
+            int longIndex = (int) (bitIndex / Long.SIZE);
+            final int bitOffset = (int) (bitIndex % Long.SIZE);
 
             this.longArray[longIndex] = this.longArray[longIndex] & ~(this.maxValue << bitOffset) | (long) value << bitOffset;
 
@@ -167,10 +190,10 @@ public void set(final int index, final int value) {
 
         @Override
         public int get(final int index) {
-            final int bitIndex = index * this.bits;
-            final int longIndex = bitIndex / Long.SIZE;
-            final int rightLongIndex = (bitIndex + this.bits - 1) / 64;
-            final int bitOffset = bitIndex % 64;
+            final long bitIndex = (long) index * this.bits;
+            final int longIndex = (int) (bitIndex / Long.SIZE);
+            final int rightLongIndex = (int) ((bitIndex + this.bits - 1) / 64);
+            final int bitOffset = (int) (bitIndex % 64);
 
             if (bitOffset + this.bits > Long.SIZE) {
                 // The entry is split between two longs
@@ -212,4 +235,129 @@ public int hashCode() {
             return result;
         }
     }
+
+    /**
+     * Backing data split into fixed size segments of packed ids. Each segment
+     * only uses as many bits as its own highest id needs and is widened on its
+     * own, and segments that were never written are not allocated at all.
+     */
+    class SegmentedBackingData implements BlockBackingData {
+
+        static final int SEGMENT_SHIFT = 16;
+        /** Number of entries in a single segment */
+        static final int SEGMENT_SIZE = 1 << SegmentedBackingData.SEGMENT_SHIFT;
+        private static final int SEGMENT_MASK = SegmentedBackingData.SEGMENT_SIZE - 1;
+
+        /** The segments, where a null segment holds only the default value */
+        private final @Nullable PackedBackingData[] segments;
+        /** The highest value new segments are prepared for */
+        private final int highestValue;
+        private final int defaultValue;
+        private final int size;
+
+        /**
+         * Creates a new SegmentedBackingData with every entry set to {@code defaultValue}.
+         *
+         * @param size The number of elements
+         * @param highestValue The highest value to prepare new segments for
+         * @param defaultValue The initial value of every element
+         */
+        public SegmentedBackingData(final int size, final int highestValue, final int defaultValue) {
+            this.size = size;
+            this.highestValue = Math.max(highestValue, defaultValue);
+            this.defaultValue = defaultValue;
+            this.segments = new PackedBackingData[(int) (((long) size + SegmentedBackingData.SEGMENT_MASK) >>> SegmentedBackingData.SEGMENT_SHIFT)];
+        }
+
+        private SegmentedBackingData(final SegmentedBackingData original) {
+            this.size = original.size;
+            this.highestValue = original.highestValue;
+            this.defaultValue = original.defaultValue;
+            this.segments = new PackedBackingData[original.segments.length];
+            for (int i = 0; i < this.segments.length; i++) {
+                final @Nullable PackedBackingData segment = original.segments[i];
+                this.segments[i] = segment == null ? null : segment.copyOf();
+            }
+        }
+
+        @Override
+        public int get(final int index) {
+            Objects.checkIndex(index, this.size);
+            final @Nullable PackedBackingData segment = this.segments[index >>> SegmentedBackingData.SEGMENT_SHIFT];
+            if (segment == null) {
+                return this.defaultValue;
+            }
+            return segment.get(index & SegmentedBackingData.SEGMENT_MASK);
+        }
+
+        @Override
+        public void set(final int index, final int val) {
+            Objects.checkIndex(index, this.size);
+            final int segmentIndex = index >>> SegmentedBackingData.SEGMENT_SHIFT;
+            @Nullable PackedBackingData segment = this.segments[segmentIndex];
+            if (segment == null) {
+                if (val == this.defaultValue) {
+                    return;
+                }
+                segment = this.newSegment(Math.max(this.highestValue, val));
+                for (int i = 0; i < SegmentedBackingData.SEGMENT_SIZE; i++) {
+                    segment.set(i, this.defaultValue);
+                }
+                this.segments[segmentIndex] = segment;
+            } else if (val > segment.getMax()) {
+                // Only this segment has to be rewritten with the wider ids
+                final PackedBackingData widened = this.newSegment(val);
+                for (int i = 0; i < SegmentedBackingData.SEGMENT_SIZE; i++) {
+                    widened.set(i, segment.get(i));
+                }
+                segment = widened;
+                this.segments[segmentIndex] = segment;
+            }
+            segment.set(index & SegmentedBackingData.SEGMENT_MASK, val);
+        }
+
+        private PackedBackingData newSegment(final int highestValue) {
+            return new PackedBackingData(SegmentedBackingData.SEGMENT_SIZE, highestValue);
+        }
+
+        @Override
+        public SegmentedBackingData copyOf() {
+            return new SegmentedBackingData(this);
+        }
+
+        @Override
+        public int getMax() {
+            // Segments widen themselves as needed
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final SegmentedBackingData that = (SegmentedBackingData) o;
+            if (this.size != that.size) {
+                return false;
+            }
+            for (int i = 0; i < this.size; i++) {
+                if (this.get(i) != that.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.size;
+            for (int i = 0; i < this.size; i++) {
+                result = 31 * result + this.get(i);
+            }
+            return result;
+        }
+    }
 }
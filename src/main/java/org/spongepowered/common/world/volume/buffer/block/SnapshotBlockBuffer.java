@@ -0,0 +1,151 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume.buffer.block;
+
+import net.minecraft.core.registries.Registries;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.fluid.FluidState;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.schematic.PaletteTypes;
+import org.spongepowered.api.world.volume.block.BlockVolume;
+import org.spongepowered.api.world.volume.stream.StreamOptions;
+import org.spongepowered.api.world.volume.stream.VolumeElement;
+import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.world.schematic.PaletteWrapper;
+import org.spongepowered.common.world.volume.SectionSnapshot;
+import org.spongepowered.common.world.volume.SpongeVolumeStream;
+import org.spongepowered.common.world.volume.VolumeStreamUtils;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable block volume backed by a {@link SectionSnapshot} of a world.
+ * Taking the snapshot copies the section storage of the region, which is far
+ * cheaper than copying it block by block, and the resulting volume and its
+ * streams can be used from any thread.
+ */
+public final class SnapshotBlockBuffer extends AbstractBlockBuffer implements BlockVolume.Immutable {
+
+    private final SectionSnapshot<net.minecraft.world.level.block.state.BlockState> snapshot;
+
+    private SnapshotBlockBuffer(final Vector3i start, final Vector3i size,
+        final SectionSnapshot<net.minecraft.world.level.block.state.BlockState> snapshot
+    ) {
+        super(start, size);
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Takes a snapshot of the block states within the given region. When the
+     * reader is a server world, this must be called on the main thread.
+     *
+     * @param reader The reader to snapshot
+     * @param min The minimum block position
+     * @param max The maximum block position
+     * @return The snapshot volume
+     */
+    public static SnapshotBlockBuffer of(final LevelReader reader, final Vector3i min, final Vector3i max) {
+        Objects.requireNonNull(reader, "reader");
+        VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"), StreamOptions.lazily());
+        if (reader instanceof ServerLevel && !PhaseTracker.SERVER.onSidedThread()) {
+            throw new IllegalStateException("Cannot take a snapshot of a server world off the main thread");
+        }
+        final net.minecraft.world.level.block.state.BlockState air = Blocks.AIR.defaultBlockState();
+        final SectionSnapshot<net.minecraft.world.level.block.state.BlockState> snapshot = SectionSnapshot.copyOf(
+            min, max, air, (sectionX, sectionY, sectionZ) -> {
+                final ChunkAccess chunk = reader.getChunk(sectionX, sectionZ);
+                if (sectionY < chunk.getMinSection() || sectionY >= chunk.getMaxSection()) {
+                    return null;
+                }
+                final LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+                // Only skip sections of plain air, as LevelChunkSection#hasOnlyAir
+                // also holds for cave and void air, which must be kept
+                return section.getStates().maybeHas(state -> state != air) ? section.getStates() : null;
+            });
+        return new SnapshotBlockBuffer(min, max.sub(min).add(1, 1, 1), snapshot);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Palette<BlockState, BlockType> blockPalette() {
+        return PaletteWrapper.of(
+            PaletteTypes.BLOCK_STATE_PALETTE.get(),
+            Block.BLOCK_STATE_REGISTRY,
+            (org.spongepowered.api.registry.Registry<BlockType>) SpongeCommon.vanillaRegistry(Registries.BLOCK)
+        );
+    }
+
+    @Override
+    public BlockState block(final int x, final int y, final int z) {
+        this.checkRange(x, y, z);
+        return (BlockState) this.snapshot.get(x, y, z);
+    }
+
+    @Override
+    public FluidState fluid(final int x, final int y, final int z) {
+        return this.block(x, y, z).fluidState();
+    }
+
+    @Override
+    public int highestYAt(final int x, final int z) {
+        for (int y = this.max().y(); y >= this.min().y(); y--) {
+            if (!this.snapshot.get(x, y, z).isAir()) {
+                return y + 1;
+            }
+        }
+        return this.min().y();
+    }
+
+    @Override
+    public VolumeStream<Immutable, BlockState> blockStateStream(final Vector3i min, final Vector3i max, final StreamOptions options
+    ) {
+        VolumeStreamUtils.validateStreamArgs(min, max, this.min(), this.max(), options);
+        // The snapshot is never modified, so there is nothing to copy.
+        final Stream<VolumeElement<Immutable, BlockState>> stateStream = IntStream.rangeClosed(min.x(), max.x())
+            .mapToObj(x -> IntStream.rangeClosed(min.z(), max.z())
+                .mapToObj(z -> IntStream.rangeClosed(min.y(), max.y())
+                    .mapToObj(y -> {
+                        final BlockState state = (BlockState) this.snapshot.get(x, y, z);
+                        return VolumeElement.<Immutable, BlockState>of(this, () -> state, new Vector3d(x, y, z));
+                    })
+                ).flatMap(Function.identity())
+            ).flatMap(Function.identity());
+        return new SpongeVolumeStream<>(stateStream, () -> this);
+    }
+}
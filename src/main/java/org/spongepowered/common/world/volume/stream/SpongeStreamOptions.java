@@ -25,20 +25,24 @@
 package org.spongepowered.common.world.volume.stream;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.function.Predicate;
 
 public class SpongeStreamOptions implements StreamOptions {
 
     private final boolean copies;
     private final LoadingStyle loadingStyle;
+    private final @Nullable Predicate<BlockState> stateFilter;
 
     SpongeStreamOptions(final SpongeStreamOptionsBuilder builder) {
         Objects.requireNonNull(builder, "Builder cannot be null!");
         this.loadingStyle = builder.loadingStyle;
         this.copies = builder.copies;
+        this.stateFilter = builder.stateFilter;
     }
 
     @Override
@@ -51,6 +55,18 @@ public LoadingStyle loadingStyle() {
         return this.loadingStyle;
     }
 
+    /**
+     * Gets the filter of block states a block stream should produce. Unlike
+     * filtering the stream afterwards, the filter is checked against each
+     * section's palette, so sections that cannot hold an accepted state are
+     * never read.
+     *
+     * @return The block state filter, or null to stream every block state
+     */
+    public @Nullable Predicate<BlockState> stateFilter() {
+        return this.stateFilter;
+    }
+
     @Override
     public boolean equals(final @Nullable Object o) {
         if (this == o) {
@@ -60,12 +76,13 @@ public boolean equals(final @Nullable Object o) {
             return false;
         }
         final SpongeStreamOptions that = (SpongeStreamOptions) o;
-        return this.copies == that.copies && this.loadingStyle == that.loadingStyle;
+        return this.copies == that.copies && this.loadingStyle == that.loadingStyle
+            && Objects.equals(this.stateFilter, that.stateFilter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.copies, this.loadingStyle);
+        return Objects.hash(this.copies, this.loadingStyle, this.stateFilter);
     }
 
     @Override
@@ -77,6 +94,7 @@ public String toString() {
         )
             .add("copies=" + this.copies)
             .add("loadingStyle=" + this.loadingStyle)
+            .add("stateFilter=" + this.stateFilter)
             .toString();
     }
 }
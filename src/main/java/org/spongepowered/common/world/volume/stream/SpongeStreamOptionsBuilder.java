@@ -24,14 +24,18 @@
  */
 package org.spongepowered.common.world.volume.stream;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 
 import java.util.Objects;
+import java.util.function.Predicate;
 
 public class SpongeStreamOptionsBuilder implements StreamOptions.Builder {
 
     boolean copies = false;
     StreamOptions.LoadingStyle loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
+    @Nullable Predicate<BlockState> stateFilter = null;
 
     @Override
     public StreamOptions.Builder setCarbonCopy(final boolean copies) {
@@ -45,10 +49,23 @@ public StreamOptions.Builder setLoadingStyle(final StreamOptions.LoadingStyle st
         return this;
     }
 
+    /**
+     * Restricts block streams to the block states accepted by the filter,
+     * see {@link SpongeStreamOptions#stateFilter()}.
+     *
+     * @param filter The filter, or null to stream every block state
+     * @return This builder, for chaining
+     */
+    public SpongeStreamOptionsBuilder setStateFilter(final @Nullable Predicate<BlockState> filter) {
+        this.stateFilter = filter;
+        return this;
+    }
+
     @Override
     public StreamOptions.Builder reset() {
         this.copies = false;
         this.loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
+        this.stateFilter = null;
         return this;
     }
 
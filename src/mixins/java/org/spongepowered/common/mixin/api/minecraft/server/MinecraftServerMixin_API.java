@@ -83,6 +83,7 @@
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.bridge.commands.CommandsBridge;
 import org.spongepowered.common.bridge.server.MinecraftServerBridge;
+import org.spongepowered.common.bridge.world.entity.PlatformEntityBridge;
 import org.spongepowered.common.command.manager.SpongeCommandManager;
 import org.spongepowered.common.command.sponge.SpongeCommand;
 import org.spongepowered.common.datapack.SpongeDataPackManager;
@@ -484,6 +485,19 @@ public BlockDestructionIdCache getBlockDestructionIdCache() {
         return this.api$blockDestructionIdCache;
     }
 
+    @Override
+    public void sendMessage(final @NonNull Component message) {
+        // Convert once, so the message is rendered and encoded once per locale rather than once per player
+        final net.minecraft.network.chat.Component vanilla = SpongeAdventure.asVanilla(message);
+        for (final net.minecraft.server.level.ServerPlayer player : this.shadow$getPlayerList().getPlayers()) {
+            // Fake players ignore messages sent to them as an audience
+            if (!((PlatformEntityBridge) player).bridge$isFakePlayer()) {
+                player.sendSystemMessage(vanilla);
+            }
+        }
+        Sponge.game().systemSubject().sendMessage(message);
+    }
+
     @Override
     public void sendMessage(final Identity identity, final Component message, final MessageType type) {
         this.shadow$getPlayerList().broadcastSystemMessage(SpongeAdventure.asVanilla(message), false);
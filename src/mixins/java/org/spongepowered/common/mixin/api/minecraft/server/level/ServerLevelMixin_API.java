@@ -28,6 +28,7 @@
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.pointer.Pointers;
+import net.kyori.adventure.text.Component;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerChunkCache;
@@ -78,6 +79,7 @@
 import org.spongepowered.common.accessor.world.level.dimension.end.EndDragonFightAccessor;
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
+import org.spongepowered.common.bridge.world.entity.PlatformEntityBridge;
 import org.spongepowered.common.bridge.world.level.border.WorldBorderBridge;
 import org.spongepowered.common.bridge.world.level.chunk.storage.RegionFileBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
@@ -146,6 +148,18 @@ public boolean isLoaded() {
 
     // Pointered (via Audience)
 
+    @Override
+    public void sendMessage(final @NonNull Component message) {
+        // Convert once, so the message is rendered and encoded once per locale rather than once per player
+        final net.minecraft.network.chat.Component vanilla = SpongeAdventure.asVanilla(message);
+        for (final net.minecraft.server.level.ServerPlayer player : this.shadow$players()) {
+            // Fake players ignore messages sent to them as an audience
+            if (!((PlatformEntityBridge) player).bridge$isFakePlayer()) {
+                player.sendSystemMessage(vanilla);
+            }
+        }
+    }
+
     @Override
     public @NonNull Pointers pointers() {
         if (this.api$pointers == null) {
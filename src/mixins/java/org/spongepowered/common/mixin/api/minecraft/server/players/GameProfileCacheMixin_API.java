@@ -43,10 +43,12 @@
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -54,7 +56,8 @@
 public abstract class GameProfileCacheMixin_API implements GameProfileCache {
 
     // @formatter:off
-    @Shadow @Final @Mutable private final Map<String, GameProfileCache_GameProfileInfoAccessor> profilesByName = new ConcurrentHashMap<>();
+    // Sorted, so the lowercased names double as a prefix index for completions
+    @Shadow @Final @Mutable private final Map<String, GameProfileCache_GameProfileInfoAccessor> profilesByName = new ConcurrentSkipListMap<>();
     @Shadow @Final @Mutable private final Map<UUID, GameProfileCache_GameProfileInfoAccessor> profilesByUUID = new ConcurrentHashMap<>();
 
     @Shadow public abstract Optional<com.mojang.authlib.GameProfile> shadow$get(UUID uniqueId);
@@ -171,6 +174,12 @@ public Collection<GameProfile> all() {
     @Override
     public Stream<GameProfile> streamOfMatches(final String name) {
         final String search = Objects.requireNonNull(name, "name").toLowerCase(Locale.ROOT);
+        if (this.profilesByName instanceof final NavigableMap<String, GameProfileCache_GameProfileInfoAccessor> sorted) {
+            // The keys are the lowercased names, so all matches follow the search in order
+            return sorted.tailMap(search, true).entrySet().stream()
+                    .takeWhile(entry -> entry.getKey().startsWith(search))
+                    .map(entry -> this.api$updateLastAccess(entry.getValue()));
+        }
         return this.profilesByName.values().stream()
                 .filter(profile -> profile.invoker$getProfile().getName() != null)
                 .filter(profile -> profile.invoker$getProfile().getName().toLowerCase(Locale.ROOT).startsWith(search))
@@ -26,6 +26,7 @@
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.Registries;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.LevelReader;
@@ -56,6 +57,7 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.common.world.schematic.PaletteWrapper;
+import org.spongepowered.common.world.volume.BulkBlockChanges;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -171,6 +173,12 @@ default boolean setBlock(final int x, final int y, final int z, final org.sponge
         if (!((Level) this).isInWorldBounds(new BlockPos(x, y, z))) {
             throw new PositionOutOfBoundsException(new Vector3i(x, y, z), Constants.World.BLOCK_MIN, Constants.World.BLOCK_MAX);
         }
+        if (this instanceof final ServerLevel level && PhaseTracker.SERVER.onSidedThread()) {
+            final @Nullable BulkBlockChanges bulkChanges = PhaseTracker.SERVER.getPhaseContext().bulkBlockChanges(level);
+            if (bulkChanges != null) {
+                return bulkChanges.setBlock(new BlockPos(x, y, z), (BlockState) blockState);
+            }
+        }
         try (final @Nullable PhaseContext<@NonNull ?> context = PluginPhase.State.BLOCK_WORKER.switchIfNecessary(PhaseTracker.SERVER)) {
             if (context != null) {
                 context.buildAndSwitch();
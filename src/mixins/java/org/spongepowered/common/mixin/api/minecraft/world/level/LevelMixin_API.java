@@ -329,7 +329,8 @@ public ArchetypeVolume createArchetypeVolume(final Vector3i min, final Vector3i
         final Vector3i relativeMin = rawVolMin.sub(Objects.requireNonNull(origin, "origin"));
         final SpongeArchetypeVolume volume = new SpongeArchetypeVolume(relativeMin, size, this);
 
-        this.blockStateStream(min, max, StreamOptions.lazily())
+        // The volume starts out as air, so plain air need not be copied
+        this.blockStateStream(min, max, VolumeStreamUtils.lazilyWithoutAir())
             .apply(VolumeCollectors.of(
                 volume,
                 VolumePositionTranslators.offset(origin),
@@ -257,7 +257,7 @@ public VolumeStream<WorldChunk, BlockState> blockStateStream(
             (WorldChunk) this,
             (LevelChunk) (Object) this,
             // Entity Accessor
-            VolumeStreamUtils.getBlockStatesForSections(min, max),
+            VolumeStreamUtils.getBlockStatesForSections(min, max, VolumeStreamUtils.stateFilter(options)),
             // IdentityFunction
             (pos, blockState) -> {
                 if (shouldCarbonCopy) {
@@ -27,11 +27,13 @@
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataProvider;
@@ -44,6 +46,7 @@
 import org.spongepowered.common.data.DataUtil;
 import org.spongepowered.common.data.SpongeDataManager;
 import org.spongepowered.common.data.holder.SimpleNBTDataHolder;
+import org.spongepowered.common.data.manipulator.MutableDataManipulatorFactory;
 import org.spongepowered.common.entity.SpongeEntityArchetype;
 import org.spongepowered.common.entity.SpongeEntitySnapshot;
 import org.spongepowered.common.entity.player.SpongeUserData;
@@ -60,11 +63,13 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     private DataManipulator.Mutable impl$manipulator;
     private Multimap<DataQuery, DataView> impl$failedData;
     private boolean deserializing = false;
+    private boolean impl$dataSynced = false;
+    private @Nullable CompoundTag impl$syncedCompound;
 
     @Override
     public DataManipulator.Mutable bridge$getManipulator() {
         if (this.impl$manipulator == null) {
-            this.impl$manipulator = DataManipulator.mutableOf();
+            this.impl$manipulator = MutableDataManipulatorFactory.tracked();
             DataUtil.syncTagToData(this);
         }
         return this.impl$manipulator;
@@ -74,7 +79,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     @SuppressWarnings({"rawtypes", "unchecked"})
     public void bridge$mergeDeserialized(final DataManipulator.Mutable manipulator) {
         if (this.impl$manipulator == null) {
-            this.impl$manipulator = DataManipulator.mutableOf();
+            this.impl$manipulator = MutableDataManipulatorFactory.tracked();
         }
 
         try {
@@ -97,6 +102,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     public void bridge$clear() {
         this.impl$manipulator = null;
         this.impl$failedData = HashMultimap.create();
+        this.impl$dataSynced = false;
     }
 
     @Override
@@ -110,6 +116,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     @Override
     public void bridge$invalidateFailedData() {
         this.impl$failedData = null;
+        this.impl$dataSynced = false;
     }
 
     @Override
@@ -118,10 +125,22 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
             this.impl$failedData  = HashMultimap.create();
         }
         this.impl$failedData.put(nameSpace, keyedData);
+        this.impl$dataSynced = false;
     }
 
     @Override
     public boolean brigde$isDeserializing() {
         return this.deserializing;
     }
+
+    @Override
+    public boolean bridge$isDataSynced(final @Nullable CompoundTag compound) {
+        return this.impl$dataSynced && this.impl$manipulator != null && this.impl$syncedCompound == compound;
+    }
+
+    @Override
+    public void bridge$markDataSynced(final @Nullable CompoundTag compound) {
+        this.impl$dataSynced = true;
+        this.impl$syncedCompound = compound;
+    }
 }
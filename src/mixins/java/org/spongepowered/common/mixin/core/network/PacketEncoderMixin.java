@@ -25,29 +25,50 @@
 package org.spongepowered.common.mixin.core.network;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import net.minecraft.network.PacketEncoder;
 import net.minecraft.network.PacketListener;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundSystemChatPacket;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.util.locale.Locales;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.common.adventure.AdventureTextComponent;
 import org.spongepowered.common.adventure.SpongeAdventure;
 
+import java.util.Locale;
+
 @Mixin(PacketEncoder.class)
 public class PacketEncoderMixin<T extends PacketListener> {
 
-    @Inject(method = "encode(Lio/netty/channel/ChannelHandlerContext;Lnet/minecraft/network/protocol/Packet;Lio/netty/buffer/ByteBuf;)V",
+    @Redirect(method = "encode(Lio/netty/channel/ChannelHandlerContext;Lnet/minecraft/network/protocol/Packet;Lio/netty/buffer/ByteBuf;)V",
             at = @At(value = "INVOKE", target = "Lnet/minecraft/network/codec/StreamCodec;encode(Ljava/lang/Object;Ljava/lang/Object;)V"))
-    private void impl$setLocaleBeforeEncode(final ChannelHandlerContext ctx, final Packet<T> $$1, final ByteBuf $$2, final CallbackInfo ci) {
-        SpongeAdventure.ENCODING_LOCALE.set(ctx.channel().attr(SpongeAdventure.CHANNEL_LOCALE).get());
-    }
-
-    @Inject(method = "encode(Lio/netty/channel/ChannelHandlerContext;Lnet/minecraft/network/protocol/Packet;Lio/netty/buffer/ByteBuf;)V",
-            at = @At(value = "INVOKE", target = "Lnet/minecraft/network/codec/StreamCodec;encode(Ljava/lang/Object;Ljava/lang/Object;)V",
-                    shift = At.Shift.AFTER))
-    private void impl$clearLocaleAfterEncode(final ChannelHandlerContext ctx, final Packet<T> $$1, final ByteBuf $$2, final CallbackInfo ci) {
-        SpongeAdventure.ENCODING_LOCALE.remove();
+    private void impl$encodeWithLocale(final StreamCodec<ByteBuf, Packet<? super T>> codec, final Object $$0, final Object $$1,
+            final ChannelHandlerContext ctx, final Packet<T> packet, final ByteBuf out) {
+        final @Nullable Locale channelLocale = ctx.channel().attr(SpongeAdventure.CHANNEL_LOCALE).get();
+        SpongeAdventure.ENCODING_LOCALE.set(channelLocale);
+        try {
+            // Broadcasts send the same component to every player, so encode it once per locale
+            if (packet instanceof final ClientboundSystemChatPacket chat && chat.content() instanceof final AdventureTextComponent component) {
+                final Locale locale = channelLocale == null ? Locales.DEFAULT : channelLocale;
+                byte[] encoded = component.encodedSystemChat(locale, chat.overlay());
+                if (encoded == null) {
+                    final ByteBuf buffer = Unpooled.buffer();
+                    codec.encode(buffer, packet);
+                    encoded = ByteBufUtil.getBytes(buffer);
+                    component.cacheEncodedSystemChat(locale, chat.overlay(), encoded);
+                }
+                out.writeBytes(encoded);
+            } else {
+                codec.encode(out, packet);
+            }
+        } finally {
+            SpongeAdventure.ENCODING_LOCALE.remove();
+        }
     }
 }
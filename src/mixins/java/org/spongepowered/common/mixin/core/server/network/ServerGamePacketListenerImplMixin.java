@@ -214,6 +214,18 @@ public abstract class ServerGamePacketListenerImplMixin extends ServerCommonPack
             return;
         }
 
+        // Neither event would be posted for a change this small (or without listeners), so the packet
+        // is left to vanilla without building any vectors, cause frames or events.
+        final boolean moved = fireMoveEvent && ShouldFire.MOVE_ENTITY_EVENT && SpongeCommonEventFactory.hasMoved(
+                this.player.getX(), this.player.getY(), this.player.getZ(),
+                packetIn.getX(this.player.getX()), packetIn.getY(this.player.getY()), packetIn.getZ(this.player.getZ()));
+        final boolean rotated = fireRotationEvent && ShouldFire.ROTATE_ENTITY_EVENT && SpongeCommonEventFactory.hasRotated(
+                this.player.getXRot(), this.player.getYRot(),
+                packetIn.getXRot(this.player.getXRot()), packetIn.getYRot(this.player.getYRot()));
+        if (!moved && !rotated) {
+            return;
+        }
+
         final ServerPlayer player = (ServerPlayer) this.player;
         final Vector3d fromPosition = player.position();
         final Vector3d fromRotation = player.rotation();
@@ -114,6 +114,7 @@
 import org.spongepowered.common.server.PerWorldBorderListener;
 import org.spongepowered.common.service.server.ban.SpongeIPBanList;
 import org.spongepowered.common.service.server.ban.SpongeUserBanList;
+import org.spongepowered.common.service.server.permission.SpongePermissionService;
 import org.spongepowered.common.service.server.whitelist.SpongeUserWhiteList;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.NetworkUtil;
@@ -674,6 +675,11 @@ public abstract class PlayerListMixin implements PlayerListBridge {
         this.shadow$broadcastChatMessage($$0, filter, $$2, boundChatType);
     }
 
+    @Inject(method = {"op", "deop"}, at = @At("RETURN"))
+    private void impl$invalidatePermissionsOnOpChange(final CallbackInfo ci) {
+        SpongePermissionService.invalidateResolvedPermissions();
+    }
+
     @Inject(method = "save", at = @At("HEAD"), cancellable = true)
     private void impl$onSave(final net.minecraft.server.level.ServerPlayer player, final CallbackInfo ci) {
         if (((TransientBridge) player).bridge$isTransient()) {
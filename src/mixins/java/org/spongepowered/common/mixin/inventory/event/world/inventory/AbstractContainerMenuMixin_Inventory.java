@@ -63,6 +63,7 @@
 import org.spongepowered.common.event.tracking.phase.tick.TileEntityTickContext;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.custom.SpongeInventoryMenu;
+import org.spongepowered.common.inventory.util.ContainerUtil;
 import org.spongepowered.common.item.util.ItemStackUtil;
 
 import java.util.ArrayList;
@@ -346,6 +347,9 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
     }
 
     private void impl$capture(final Integer index, final ItemStack newStack, final ItemStack oldStack) {
+        if (!ContainerUtil.shouldCaptureSlotTransactions()) {
+            return; // No event the slot transactions could end up in has listeners, don't snapshot for nobody
+        }
         final PhaseContext<?> phaseContext = PhaseTracker.SERVER.getPhaseContext();
         if (PhaseTracker.SERVER.onSidedThread() &&
                  !(phaseContext.isRestoring() // do not capture when block restoring & initial sync on inventory open
@@ -40,12 +40,8 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
-import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.util.Constants;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.BiConsumer;
+import org.spongepowered.common.world.level.chunk.PlayerTrackerTable;
 
 @Mixin(ChunkSerializer.class)
 public abstract class ChunkSerializerMixin_Tracker {
@@ -55,30 +51,22 @@ public abstract class ChunkSerializerMixin_Tracker {
         if (!(param1 instanceof LevelChunk)) {
             return;
         }
-        final LevelChunkBridge chunk = (LevelChunkBridge) param1;
-        if (!chunk.bridge$getTrackedShortPlayerPositions().isEmpty() || !chunk.bridge$getTrackedIntPlayerPositions().isEmpty()) {
-            final CompoundTag level = cir.getReturnValue();
-            final CompoundTag trackedNbt = new CompoundTag();
-            final ListTag positions = new ListTag();
-            trackedNbt.put(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, positions);
-            level.put(Constants.Sponge.Data.V2.SPONGE_DATA, trackedNbt);
-
-            ChunkSerializerMixin_Tracker.impl$writeMap(positions, chunk.bridge$getTrackedShortPlayerPositions(), (nbt, pos) -> nbt.putShort("pos", pos));
-            ChunkSerializerMixin_Tracker.impl$writeMap(positions, chunk.bridge$getTrackedIntPlayerPositions(), (nbt, pos) -> nbt.putInt("ipos", pos));
+        final PlayerTrackerTable table = ((LevelChunkBridge) param1).bridge$getTrackedPlayerPositions();
+        if (table.isEmpty()) {
+            return;
         }
-    }
+        final int[] positions = new int[table.size()];
+        final long[] players = new long[table.size()];
+        final int[] index = {0};
+        table.forEach((x, y, z, packed) -> {
+            positions[index[0]] = PlayerTrackerTable.packPosition(x, y, z);
+            players[index[0]++] = packed;
+        });
 
-    private static <T> void impl$writeMap(final ListTag positions, final Map<T, PlayerTracker> map, final BiConsumer<CompoundTag, T> consumer) {
-        for (final Map.Entry<T, PlayerTracker> mapEntry : map.entrySet()) {
-            final T pos = mapEntry.getKey();
-            final int ownerUniqueIdIndex = mapEntry.getValue().creatorindex;
-            final int notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-            final CompoundTag valueNbt = new CompoundTag();
-            valueNbt.putInt("owner", ownerUniqueIdIndex);
-            valueNbt.putInt("notifier", notifierUniqueIdIndex);
-            consumer.accept(valueNbt, pos);
-            positions.add(valueNbt);
-        }
+        final CompoundTag trackedNbt = new CompoundTag();
+        trackedNbt.putIntArray(Constants.Sponge.SPONGE_TRACKED_BLOCK_POSITIONS, positions);
+        trackedNbt.putLongArray(Constants.Sponge.SPONGE_TRACKED_BLOCK_PLAYERS, players);
+        cir.getReturnValue().put(Constants.Sponge.Data.V2.SPONGE_DATA, trackedNbt);
     }
 
     @Redirect(method = "read",
@@ -91,30 +79,34 @@ public abstract class ChunkSerializerMixin_Tracker {
         if (spongeData.isEmpty()) {
             return;
         }
-        final Map<Integer, PlayerTracker> trackedIntPlayerPositions = new HashMap<>();
-        final Map<Short, PlayerTracker> trackedShortPlayerPositions = new HashMap<>();
+        final PlayerTrackerTable table = new PlayerTrackerTable();
+        final int[] positions = spongeData.getIntArray(Constants.Sponge.SPONGE_TRACKED_BLOCK_POSITIONS);
+        final long[] players = spongeData.getLongArray(Constants.Sponge.SPONGE_TRACKED_BLOCK_PLAYERS);
+        final int length = Math.min(positions.length, players.length);
+        for (int i = 0; i < length; i++) {
+            final int pos = positions[i];
+            table.set(PlayerTrackerTable.x(pos), PlayerTrackerTable.y(pos), PlayerTrackerTable.z(pos), players[i]);
+        }
+        ChunkSerializerMixin_Tracker.impl$readLegacyPositions(spongeData, table);
+        ((LevelChunkBridge) chunkAccess).bridge$setTrackedPlayerPositions(table);
+    }
 
-        final ListTag list = spongeData.getList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, 10);
-        final LevelChunkBridge chunk = (LevelChunkBridge) chunkAccess;
+    @SuppressWarnings("deprecation")
+    private static void impl$readLegacyPositions(final CompoundTag spongeData, final PlayerTrackerTable table) {
+        final ListTag list = spongeData.getList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Tag.TAG_COMPOUND);
         for (final Tag tag : list) {
-            final PlayerTracker tracker = new PlayerTracker();
             final CompoundTag data = (CompoundTag) tag;
-            final boolean isShortPos = data.contains("pos");
-            if (data.contains("owner")) {
-                tracker.creatorindex = data.getInt("owner");
-            }
-            if (data.contains("notifier")) {
-                tracker.notifierIndex = data.getInt("notifier");
-            }
-            if (tracker.notifierIndex != -1 || tracker.creatorindex != -1) {
-                if (isShortPos) {
-                    trackedShortPlayerPositions.put(data.getShort("pos"), tracker);
-                } else {
-                    trackedIntPlayerPositions.put(data.getInt("ipos"), tracker);
-                }
+            final int creator = data.contains("owner") ? data.getInt("owner") : PlayerTrackerTable.NONE;
+            final int notifier = data.contains("notifier") ? data.getInt("notifier") : PlayerTrackerTable.NONE;
+            if (data.contains("pos")) {
+                // x:4 | y:8 | z:4
+                final short pos = data.getShort("pos");
+                table.set(pos & 0xF, (pos >> 4) & 0xFF, (pos >> 12) & 0xF, PlayerTrackerTable.pack(creator, notifier));
+            } else {
+                // x:4 | y:24 | z:4
+                final int pos = data.getInt("ipos");
+                table.set(pos & 0xF, (pos << 4) >> 8, (pos >>> 28) & 0xF, PlayerTrackerTable.pack(creator, notifier));
             }
         }
-        chunk.bridge$setTrackedIntPlayerPositions(trackedIntPlayerPositions);
-        chunk.bridge$setTrackedShortPlayerPositions(trackedShortPlayerPositions);
     }
 }
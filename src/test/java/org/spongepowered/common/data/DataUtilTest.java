@@ -0,0 +1,132 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.StringTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.common.bridge.data.DataCompoundHolder;
+import org.spongepowered.common.bridge.data.SpongeDataHolderBridge;
+import org.spongepowered.common.data.manipulator.TrackedDataManipulator;
+import org.spongepowered.common.test.stub.StubKey;
+import org.spongepowered.common.util.Constants;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+class DataUtilTest {
+
+    private static final String ROOT = Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString(".");
+
+    interface Holder extends SpongeDataHolderBridge, DataCompoundHolder {
+    }
+
+    private static CompoundTag data(final int value) {
+        final CompoundTag data = new CompoundTag();
+        data.putInt("value", value);
+        return data;
+    }
+
+    private static CompoundTag compound() {
+        final CompoundTag plugin = new CompoundTag();
+        plugin.put("a", DataUtilTest.data(1));
+        plugin.put("b", DataUtilTest.data(2));
+        final CompoundTag other = new CompoundTag();
+        other.put("c", DataUtilTest.data(3));
+        final CompoundTag root = new CompoundTag();
+        root.put("plugin", plugin);
+        root.put("other", other);
+
+        final CompoundTag compound = new CompoundTag();
+        compound.put("Vanilla", StringTag.valueOf("untouched"));
+        compound.put(DataUtilTest.ROOT, root);
+        return compound;
+    }
+
+    @Test
+    void verifyCleanHolderIsNotSerialized() {
+        final CompoundTag compound = DataUtilTest.compound();
+        final TrackedDataManipulator manipulator = Mockito.mock(TrackedDataManipulator.class);
+        Mockito.when(manipulator.dirtyKeys()).thenReturn(Collections.emptySet());
+        final Holder holder = Mockito.mock(Holder.class);
+        Mockito.when(holder.bridge$getManipulator()).thenReturn(manipulator);
+        Mockito.when(holder.data$getCompound()).thenReturn(compound);
+        Mockito.when(holder.bridge$isDataSynced(compound)).thenReturn(true);
+
+        assertTrue(DataUtil.serializeSpongeData(holder));
+
+        Mockito.verify(holder, Mockito.never()).data$setCompound(ArgumentMatchers.any());
+        Mockito.verify(holder, Mockito.never()).bridge$markDataSynced(ArgumentMatchers.any());
+        Mockito.verify(manipulator, Mockito.never()).getKeys();
+    }
+
+    @Test
+    void verifyOnlyDirtyDataIsWritten() {
+        final CompoundTag current = DataUtilTest.compound();
+        final CompoundTag root = current.getCompound(DataUtilTest.ROOT);
+        final Map<ResourceKey, @Nullable CompoundTag> changed = new HashMap<>();
+        changed.put(new StubKey("plugin", "a"), DataUtilTest.data(10));
+
+        final @Nullable CompoundTag updated = DataUtil.withSpongeData(current, changed);
+
+        final CompoundTag updatedRoot = updated.getCompound(DataUtilTest.ROOT);
+        assertEquals(10, updatedRoot.getCompound("plugin").getCompound("a").getInt("value"));
+        assertSame(root.getCompound("plugin").get("b"), updatedRoot.getCompound("plugin").get("b"));
+        assertSame(root.get("other"), updatedRoot.get("other"));
+        assertSame(current.get("Vanilla"), updated.get("Vanilla"));
+        // The original may be shared, so it must stay as it was
+        assertEquals(DataUtilTest.compound(), current);
+    }
+
+    @Test
+    void verifyRemovedDataIsCleanedUp() {
+        final Map<ResourceKey, @Nullable CompoundTag> changed = new HashMap<>();
+        changed.put(new StubKey("plugin", "a"), null);
+        changed.put(new StubKey("plugin", "b"), null);
+
+        final @Nullable CompoundTag updated = DataUtil.withSpongeData(DataUtilTest.compound(), changed);
+
+        final CompoundTag updatedRoot = updated.getCompound(DataUtilTest.ROOT);
+        assertFalse(updatedRoot.contains("plugin"));
+        assertTrue(updatedRoot.contains("other"));
+
+        changed.clear();
+        changed.put(new StubKey("other", "c"), null);
+        final @Nullable CompoundTag vanillaOnly = DataUtil.withSpongeData(updated, changed);
+        assertEquals(Collections.singleton("Vanilla"), vanillaOnly.getAllKeys());
+        assertNull(DataUtil.withSpongeData(null, Collections.emptyMap()));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class SpongeCommonEventFactoryTest {
+
+    @Test
+    void verifyMovesAcrossZeroAreSeen() {
+        assertTrue(SpongeCommonEventFactory.hasMoved(-0.1, 64, 5, 0.1, 64, 5));
+        assertTrue(SpongeCommonEventFactory.hasMoved(5, -0.1, 5, 5, 0.1, 5));
+        assertTrue(SpongeCommonEventFactory.hasMoved(5, 64, -0.1, 5, 64, 0.1));
+        assertTrue(SpongeCommonEventFactory.hasMoved(0.01, 64, 5, -0.01, 64, 5));
+    }
+
+    @Test
+    void verifyMovesWithinACellAreIgnored() {
+        assertFalse(SpongeCommonEventFactory.hasMoved(5.01, 64, 5, 5.1, 64, 5));
+        assertFalse(SpongeCommonEventFactory.hasMoved(-5.01, -64.01, -5.01, -5.1, -64.1, -5.1));
+        assertTrue(SpongeCommonEventFactory.hasMoved(-5.1, 64, 5, -5.2, 64, 5));
+    }
+
+    @Test
+    void verifyRotationsAcrossZeroAreSeen() {
+        assertTrue(SpongeCommonEventFactory.hasRotated(-0.01, 90, 0.01, 90));
+        assertTrue(SpongeCommonEventFactory.hasRotated(30, -0.01, 30, 0.01));
+        assertTrue(SpongeCommonEventFactory.hasRotated(0, 0, -0.04, 0));
+    }
+
+    @Test
+    void verifyNegativeRotationsWithinACellAreIgnored() {
+        assertFalse(SpongeCommonEventFactory.hasRotated(-0.02, -90.01, -0.04, -90.02));
+        assertFalse(SpongeCommonEventFactory.hasRotated(-45.0, -179.99, -45.0, -179.96));
+        assertTrue(SpongeCommonEventFactory.hasRotated(-45.0, -179.99, -45.1, -179.99));
+    }
+}
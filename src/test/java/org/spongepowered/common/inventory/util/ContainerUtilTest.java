@@ -0,0 +1,89 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.event.item.inventory.DropItemEvent;
+import org.spongepowered.common.test.TestEventManager;
+import org.spongepowered.common.test.UnitTestExtension;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.invoke.MethodHandles;
+
+@ExtendWith(UnitTestExtension.class)
+public class ContainerUtilTest {
+
+    @Test
+    public void spawnEntityListenerCapturesSlotTransactions() {
+        final TestEventManager eventManager = new TestEventManager();
+        final CancelSpawns listener = new CancelSpawns();
+        assertFalse(ContainerUtil.shouldCaptureSlotTransactions());
+
+        // Dropping from a container fires ClickContainerEvent.Drop, which this listener cancels,
+        // so the slots have to be restorable from the captured transactions
+        eventManager.registerListeners(Mockito.mock(PluginContainer.class), listener, MethodHandles.lookup());
+        assertTrue(ContainerUtil.shouldCaptureSlotTransactions());
+
+        eventManager.unregisterListeners(listener);
+        assertFalse(ContainerUtil.shouldCaptureSlotTransactions());
+    }
+
+    @Test
+    public void dropItemListenerCapturesSlotTransactions() {
+        final TestEventManager eventManager = new TestEventManager();
+        final CancelDrops listener = new CancelDrops();
+
+        eventManager.registerListeners(Mockito.mock(PluginContainer.class), listener, MethodHandles.lookup());
+        assertTrue(ContainerUtil.shouldCaptureSlotTransactions());
+
+        eventManager.unregisterListeners(listener);
+        assertFalse(ContainerUtil.shouldCaptureSlotTransactions());
+    }
+
+    public static class CancelSpawns {
+
+        @Listener
+        public void onSpawn(final SpawnEntityEvent event) {
+            event.setCancelled(true);
+        }
+    }
+
+    public static class CancelDrops {
+
+        @Listener
+        public void onDrop(final DropItemEvent event) {
+            if (event instanceof DropItemEvent.Dispense dispense) {
+                dispense.setCancelled(true);
+            }
+        }
+    }
+}
@@ -110,4 +110,12 @@ public void testCreateFromValues() throws Exception {
         Assertions.assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         Assertions.assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testTokenize() {
+        Assertions.assertArrayEquals(new String[] {"generate", "rainbow"}, SpongeNodeTree.tokenize("Generate.RAINBOW"));
+        Assertions.assertArrayEquals(new String[] {"", "generate", ""}, SpongeNodeTree.tokenize(".generate."));
+        Assertions.assertArrayEquals(new String[] {""}, SpongeNodeTree.tokenize(""));
+        Assertions.assertSame(SpongeNodeTree.tokenize("generate.sunset"), SpongeNodeTree.tokenize("generate.sunset"));
+    }
 }
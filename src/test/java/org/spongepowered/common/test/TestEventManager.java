@@ -25,6 +25,8 @@
 package org.spongepowered.common.test;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.event.manager.RegisteredListener;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.util.DefinableClassLoader;
 
@@ -39,4 +41,8 @@ public TestEventManager(final DefinableClassLoader loader) {
     public TestEventManager() {
         this.loader = null;
     }
+
+    public RegisteredListener.Cache handlerCache(final Event event) {
+        return this.getHandlerCache(event);
+    }
 }
@@ -0,0 +1,258 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.test.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.event.manager.RegisteredListener;
+import org.spongepowered.common.test.TestEventManager;
+import org.spongepowered.common.test.UnitTestExtension;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(UnitTestExtension.class)
+public class CompiledEventDispatchTest {
+
+    private boolean previous;
+
+    @BeforeEach
+    void enableCompiledDispatch() {
+        this.previous = SpongeConfigs.getCommon().get().optimizations.compiledEventDispatch;
+        SpongeConfigs.getCommon().get().optimizations.compiledEventDispatch = true;
+    }
+
+    @AfterEach
+    void restoreCompiledDispatch() {
+        SpongeConfigs.getCommon().get().optimizations.compiledEventDispatch = this.previous;
+    }
+
+    @Test
+    public void listenersAreCalledInOrder() {
+        final TestEventManager eventManager = new TestEventManager();
+        final List<String> calls = new ArrayList<>();
+        // Registered by two plugins, so the dispatcher has to switch frames in between
+        eventManager.registerListeners(Mockito.mock(PluginContainer.class), new Ordered(calls), MethodHandles.lookup());
+        eventManager.registerListeners(Mockito.mock(PluginContainer.class), new Late(calls), MethodHandles.lookup());
+
+        final TestEvent event = new TestEvent();
+        assertNotNull(eventManager.handlerCache(event).dispatcher());
+        eventManager.post(event);
+
+        assertEquals(List.of("pre", "first", "early", "default", "late", "last", "post"), calls);
+    }
+
+    @Test
+    public void beforeModificationsListenersAreDispatched() {
+        final TestEventManager eventManager = new TestEventManager();
+        final List<String> calls = new ArrayList<>();
+        eventManager.registerListeners(Mockito.mock(PluginContainer.class), new Modifications(calls), MethodHandles.lookup());
+
+        final TestEvent event = new TestEvent();
+        final RegisteredListener.Cache cache = eventManager.handlerCache(event);
+        assertNotNull(cache.dispatcher());
+        assertEquals(1, cache.beforeModifications().size());
+        assertEquals(1, cache.afterModifications().size());
+        eventManager.post(event);
+
+        assertEquals(List.of("before", "after"), calls);
+    }
+
+    @Test
+    public void cancelledEventsAreFiltered() {
+        final TestEventManager eventManager = new TestEventManager();
+        final List<String> calls = new ArrayList<>();
+        eventManager.registerListeners(Mockito.mock(PluginContainer.class), new Cancelling(calls), MethodHandles.lookup());
+
+        final TestEvent event = new TestEvent();
+        assertNotNull(eventManager.handlerCache(event).dispatcher());
+        assertTrue(eventManager.post(event));
+
+        assertEquals(List.of("cancel", "always", "cancelled"), calls);
+    }
+
+    @Test
+    public void listenerRegisteredAfterBakingIsCalled() {
+        final TestEventManager eventManager = new TestEventManager();
+        final List<String> calls = new ArrayList<>();
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        eventManager.registerListeners(plugin, new Late(calls), MethodHandles.lookup());
+
+        assertFalse(eventManager.post(new TestEvent()));
+        assertEquals(List.of("late"), calls);
+
+        calls.clear();
+        eventManager.registerListeners(plugin, new Ordered(calls), MethodHandles.lookup());
+        final TestEvent event = new TestEvent();
+        assertNotNull(eventManager.handlerCache(event).dispatcher());
+        eventManager.post(event);
+
+        assertEquals(List.of("pre", "first", "early", "default", "late", "last", "post"), calls);
+    }
+
+    public static class TestEvent implements Event, Cancellable {
+
+        private final Cause cause = Cause.of(EventContext.empty(), this);
+        private boolean cancelled;
+
+        @Override
+        public Cause cause() {
+            return this.cause;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(final boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+    public static class Ordered {
+
+        private final List<String> calls;
+
+        Ordered(final List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Listener(order = Order.POST)
+        public void onPost(final TestEvent event) {
+            this.calls.add("post");
+        }
+
+        @Listener(order = Order.DEFAULT)
+        public void onDefault(final TestEvent event) {
+            this.calls.add("default");
+        }
+
+        @Listener(order = Order.PRE)
+        public void onPre(final TestEvent event) {
+            this.calls.add("pre");
+        }
+
+        @Listener(order = Order.LAST)
+        public void onLast(final TestEvent event) {
+            this.calls.add("last");
+        }
+
+        @Listener(order = Order.FIRST)
+        public void onFirst(final TestEvent event) {
+            this.calls.add("first");
+        }
+
+        @Listener(order = Order.EARLY)
+        public void onEarly(final TestEvent event) {
+            this.calls.add("early");
+        }
+    }
+
+    public static class Late {
+
+        private final List<String> calls;
+
+        Late(final List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Listener(order = Order.LATE)
+        public void onLate(final TestEvent event) {
+            this.calls.add("late");
+        }
+    }
+
+    public static class Modifications {
+
+        private final List<String> calls;
+
+        Modifications(final List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Listener(order = Order.LATE)
+        public void onAfter(final TestEvent event) {
+            this.calls.add("after");
+        }
+
+        @Listener(order = Order.EARLY, beforeModifications = true)
+        public void onBefore(final TestEvent event) {
+            this.calls.add("before");
+        }
+    }
+
+    public static class Cancelling {
+
+        private final List<String> calls;
+
+        Cancelling(final List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Listener(order = Order.FIRST)
+        public void onFirst(final TestEvent event) {
+            this.calls.add("cancel");
+            event.setCancelled(true);
+        }
+
+        @Listener(order = Order.EARLY)
+        public void onSkipped(final TestEvent event) {
+            this.calls.add("skipped");
+        }
+
+        @Listener(order = Order.DEFAULT)
+        @IsCancelled(Tristate.UNDEFINED)
+        public void onAlways(final TestEvent event) {
+            this.calls.add("always");
+        }
+
+        @Listener(order = Order.LATE)
+        @IsCancelled(Tristate.TRUE)
+        public void onCancelled(final TestEvent event) {
+            this.calls.add("cancelled");
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.test.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.common.event.manager.RegisteredListener;
+import org.spongepowered.common.test.TestEventManager;
+import org.spongepowered.common.test.UnitTestExtension;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(UnitTestExtension.class)
+public class EventManagerRebakeTest {
+
+    @Test
+    public void subtypeListenerOnlyRebakesSubtype() {
+        final TestEventManager eventManager = new TestEventManager();
+        final List<String> calls = new ArrayList<>();
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        eventManager.registerListeners(plugin, new ParentListener(calls), MethodHandles.lookup());
+
+        eventManager.post(new ParentEvent());
+        eventManager.post(new ChildEvent());
+        eventManager.post(new OtherEvent());
+        final RegisteredListener.Cache parent = eventManager.handlerCache(new ParentEvent());
+        final RegisteredListener.Cache child = eventManager.handlerCache(new ChildEvent());
+        final RegisteredListener.Cache other = eventManager.handlerCache(new OtherEvent());
+        assertEquals(List.of("parent", "parent"), calls);
+
+        calls.clear();
+        eventManager.registerListeners(plugin, new ChildListener(calls), MethodHandles.lookup());
+
+        assertSame(parent, eventManager.handlerCache(new ParentEvent()));
+        assertNotSame(child, eventManager.handlerCache(new ChildEvent()));
+        assertSame(other, eventManager.handlerCache(new OtherEvent()));
+        eventManager.post(new ParentEvent());
+        eventManager.post(new ChildEvent());
+        assertEquals(List.of("parent", "parent", "child"), calls);
+    }
+
+    @Test
+    public void supertypeListenerRebakesSubtypes() {
+        final TestEventManager eventManager = new TestEventManager();
+        final List<String> calls = new ArrayList<>();
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        eventManager.registerListeners(plugin, new ChildListener(calls), MethodHandles.lookup());
+
+        eventManager.post(new ParentEvent());
+        eventManager.post(new ChildEvent());
+        eventManager.post(new OtherEvent());
+        final RegisteredListener.Cache parent = eventManager.handlerCache(new ParentEvent());
+        final RegisteredListener.Cache child = eventManager.handlerCache(new ChildEvent());
+        final RegisteredListener.Cache other = eventManager.handlerCache(new OtherEvent());
+        assertEquals(List.of("child"), calls);
+
+        calls.clear();
+        final ParentListener listener = new ParentListener(calls);
+        eventManager.registerListeners(plugin, listener, MethodHandles.lookup());
+
+        final RegisteredListener.Cache parentAfterRegister = eventManager.handlerCache(new ParentEvent());
+        final RegisteredListener.Cache childAfterRegister = eventManager.handlerCache(new ChildEvent());
+        assertNotSame(parent, parentAfterRegister);
+        assertNotSame(child, childAfterRegister);
+        assertSame(other, eventManager.handlerCache(new OtherEvent()));
+        eventManager.post(new ParentEvent());
+        eventManager.post(new ChildEvent());
+        assertEquals(List.of("parent", "parent", "child"), calls);
+
+        calls.clear();
+        eventManager.unregisterListeners(listener);
+
+        assertNotSame(parentAfterRegister, eventManager.handlerCache(new ParentEvent()));
+        assertNotSame(childAfterRegister, eventManager.handlerCache(new ChildEvent()));
+        assertSame(other, eventManager.handlerCache(new OtherEvent()));
+        eventManager.post(new ParentEvent());
+        eventManager.post(new ChildEvent());
+        assertEquals(List.of("child"), calls);
+    }
+
+    @Test
+    public void unregisteringSubtypeListenerKeepsSupertypeCache() {
+        final TestEventManager eventManager = new TestEventManager();
+        final List<String> calls = new ArrayList<>();
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final ChildListener listener = new ChildListener(calls);
+        eventManager.registerListeners(plugin, new ParentListener(calls), MethodHandles.lookup());
+        eventManager.registerListeners(plugin, listener, MethodHandles.lookup());
+
+        eventManager.post(new ParentEvent());
+        eventManager.post(new ChildEvent());
+        final RegisteredListener.Cache parent = eventManager.handlerCache(new ParentEvent());
+        final RegisteredListener.Cache child = eventManager.handlerCache(new ChildEvent());
+        assertEquals(2, child.getListeners().size());
+
+        calls.clear();
+        eventManager.unregisterListeners(listener);
+
+        assertSame(parent, eventManager.handlerCache(new ParentEvent()));
+        assertNotSame(child, eventManager.handlerCache(new ChildEvent()));
+        assertEquals(1, eventManager.handlerCache(new ChildEvent()).getListeners().size());
+        eventManager.post(new ChildEvent());
+        assertEquals(List.of("parent"), calls);
+    }
+
+    @Test
+    public void listenersInOneClassAreTimedSeparately() {
+        final TestEventManager eventManager = new TestEventManager();
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(plugin.metadata().id()).thenReturn("test");
+        eventManager.registerListeners(plugin, new TwoParentListeners(new ArrayList<>()), MethodHandles.lookup());
+
+        final List<RegisteredListener<?>> listeners = eventManager.handlerCache(new ParentEvent()).getListeners();
+        assertEquals(2, listeners.size());
+        assertNotSame(listeners.get(0).timing(), listeners.get(1).timing());
+        assertTrue(listeners.get(0).timing().name().endsWith("(TwoParentListeners#onFirst)"));
+        assertTrue(listeners.get(1).timing().name().endsWith("(TwoParentListeners#onSecond)"));
+    }
+
+    public static class ParentEvent implements Event {
+
+        private final Cause cause = Cause.of(EventContext.empty(), this);
+
+        @Override
+        public Cause cause() {
+            return this.cause;
+        }
+    }
+
+    public static class ChildEvent extends ParentEvent {
+    }
+
+    public static class OtherEvent implements Event {
+
+        private final Cause cause = Cause.of(EventContext.empty(), this);
+
+        @Override
+        public Cause cause() {
+            return this.cause;
+        }
+    }
+
+    public static class ParentListener {
+
+        private final List<String> calls;
+
+        ParentListener(final List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Listener(order = Order.EARLY)
+        public void onParent(final ParentEvent event) {
+            this.calls.add("parent");
+        }
+    }
+
+    public static class ChildListener {
+
+        private final List<String> calls;
+
+        ChildListener(final List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Listener(order = Order.LATE)
+        public void onChild(final ChildEvent event) {
+            this.calls.add("child");
+        }
+    }
+
+    public static class TwoParentListeners {
+
+        private final List<String> calls;
+
+        TwoParentListeners(final List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Listener(order = Order.EARLY)
+        public void onFirst(final ParentEvent event) {
+            this.calls.add("first");
+        }
+
+        @Listener(order = Order.LATE)
+        public void onSecond(final ParentEvent event) {
+            this.calls.add("second");
+        }
+    }
+}
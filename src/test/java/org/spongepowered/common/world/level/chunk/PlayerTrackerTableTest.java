@@ -0,0 +1,82 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class PlayerTrackerTableTest {
+
+    @Test
+    void verifyPacking() {
+        final long packed = PlayerTrackerTable.pack(42, PlayerTrackerTable.NONE);
+        assertEquals(42, PlayerTrackerTable.creator(packed));
+        assertEquals(PlayerTrackerTable.NONE, PlayerTrackerTable.notifier(packed));
+
+        final int position = PlayerTrackerTable.packPosition(15, -64, 3);
+        assertEquals(15, PlayerTrackerTable.x(position));
+        assertEquals(-64, PlayerTrackerTable.y(position));
+        assertEquals(3, PlayerTrackerTable.z(position));
+    }
+
+    @Test
+    void verifySetAndRemove() {
+        final PlayerTrackerTable table = new PlayerTrackerTable();
+        assertEquals(PlayerTrackerTable.EMPTY, table.get(1, 2, 3));
+
+        table.set(1, -1, 3, PlayerTrackerTable.pack(1, 2));
+        table.set(1, 255, 3, PlayerTrackerTable.pack(3, 4));
+        table.set(17, 255, 19, PlayerTrackerTable.pack(5, 6)); // same chunk-local position as the previous one
+        assertEquals(2, table.size());
+        assertEquals(PlayerTrackerTable.pack(1, 2), table.get(1, -1, 3));
+        assertEquals(PlayerTrackerTable.pack(5, 6), table.get(1, 255, 3));
+
+        table.set(1, -1, 3, PlayerTrackerTable.EMPTY);
+        table.remove(1, 255, 3);
+        assertTrue(table.isEmpty());
+        assertEquals(PlayerTrackerTable.EMPTY, table.get(1, 255, 3));
+    }
+
+    @Test
+    void verifyForEachVisitsAllPositions() {
+        final PlayerTrackerTable table = new PlayerTrackerTable();
+        final Map<Integer, Long> expected = new HashMap<>();
+        for (int y = -64; y < 320; y += 7) {
+            final int x = y & 15;
+            final int z = (y * 3) & 15;
+            table.set(x, y, z, PlayerTrackerTable.pack(y, -y));
+            expected.put(PlayerTrackerTable.packPosition(x, y, z), PlayerTrackerTable.pack(y, -y));
+        }
+
+        final Map<Integer, Long> visited = new HashMap<>();
+        table.forEach((x, y, z, packed) -> visited.put(PlayerTrackerTable.packPosition(x, y, z), packed));
+        assertEquals(expected, visited);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import net.minecraft.util.CrudeIncrementalIntIdentityHashBiMap;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.concurrent.CompletableFuture;
+
+class SectionSnapshotTest {
+
+    private static final String AIR = "air";
+    private static final String STONE = "stone";
+    private static final String ORE = "ore";
+
+    private static PalettedContainer<String> section() {
+        final CrudeIncrementalIntIdentityHashBiMap<String> ids = CrudeIncrementalIntIdentityHashBiMap.create(4);
+        ids.add(SectionSnapshotTest.AIR);
+        ids.add(SectionSnapshotTest.STONE);
+        ids.add(SectionSnapshotTest.ORE);
+        return new PalettedContainer<>(ids, SectionSnapshotTest.AIR, PalettedContainer.Strategy.SECTION_STATES);
+    }
+
+    @Test
+    void verifyLaterChangesAreNotVisible() throws Exception {
+        final PalettedContainer<String> live = SectionSnapshotTest.section();
+        live.set(1, 2, 3, SectionSnapshotTest.STONE);
+
+        final SectionSnapshot<String> snapshot = SectionSnapshot.copyOf(new Vector3i(16, 0, 0), new Vector3i(31, 15, 15),
+            SectionSnapshotTest.AIR, (x, y, z) -> live);
+
+        live.set(1, 2, 3, SectionSnapshotTest.ORE);
+        live.set(4, 4, 4, SectionSnapshotTest.ORE);
+        assertEquals(SectionSnapshotTest.ORE, live.get(1, 2, 3));
+
+        final String changed = CompletableFuture.supplyAsync(() -> snapshot.get(17, 2, 3)).get();
+        final String added = CompletableFuture.supplyAsync(() -> snapshot.get(20, 4, 4)).get();
+        assertEquals(SectionSnapshotTest.STONE, changed);
+        assertEquals(SectionSnapshotTest.AIR, added);
+    }
+
+    @Test
+    void verifyMissingSections() {
+        final PalettedContainer<String> live = SectionSnapshotTest.section();
+        live.set(0, 0, 0, SectionSnapshotTest.STONE);
+
+        final SectionSnapshot<String> snapshot = SectionSnapshot.copyOf(new Vector3i(-16, -16, 0), new Vector3i(15, 15, 15),
+            SectionSnapshotTest.ORE, (x, y, z) -> x == 0 && y == 0 ? live : null);
+
+        assertEquals(SectionSnapshotTest.STONE, snapshot.get(0, 0, 0));
+        assertEquals(SectionSnapshotTest.ORE, snapshot.get(-1, 0, 0));
+        assertEquals(SectionSnapshotTest.ORE, snapshot.get(0, -1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(16, 0, 0));
+    }
+}
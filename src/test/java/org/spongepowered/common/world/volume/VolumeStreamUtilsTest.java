@@ -0,0 +1,109 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.CrudeIncrementalIntIdentityHashBiMap;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+class VolumeStreamUtilsTest {
+
+    private static final String AIR = "air";
+    private static final String STONE = "stone";
+    private static final String ORE = "ore";
+
+    private static PalettedContainer<String> section(final String fill) {
+        final CrudeIncrementalIntIdentityHashBiMap<String> ids = CrudeIncrementalIntIdentityHashBiMap.create(4);
+        ids.add(VolumeStreamUtilsTest.AIR);
+        ids.add(VolumeStreamUtilsTest.STONE);
+        ids.add(VolumeStreamUtilsTest.ORE);
+        return spy(new PalettedContainer<>(ids, fill, PalettedContainer.Strategy.SECTION_STATES));
+    }
+
+    private static List<Map.Entry<BlockPos, String>> elements(final Vector3i min, final Vector3i max,
+        final List<PalettedContainer<String>> sections, final @Nullable Predicate<String> filter
+    ) {
+        return VolumeStreamUtils.getSectionElements(new ChunkPos(0, 0), 0, sections.size(), sections::get,
+                new ChunkCursor(min), new ChunkCursor(max), filter)
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    void verifySectionsWithoutStateAreSkipped() {
+        final PalettedContainer<String> stone = VolumeStreamUtilsTest.section(VolumeStreamUtilsTest.STONE);
+        final PalettedContainer<String> withOre = VolumeStreamUtilsTest.section(VolumeStreamUtilsTest.AIR);
+        withOre.set(1, 2, 3, VolumeStreamUtilsTest.ORE);
+
+        final List<Map.Entry<BlockPos, String>> found = VolumeStreamUtilsTest.elements(Vector3i.ZERO, new Vector3i(15, 31, 15),
+            List.of(stone, withOre), VolumeStreamUtilsTest.ORE::equals);
+
+        assertEquals(List.of(new AbstractMap.SimpleEntry<>(new BlockPos(1, 18, 3), VolumeStreamUtilsTest.ORE)), found);
+        verify(stone, never()).get(anyInt(), anyInt(), anyInt());
+        verify(withOre, times(16 * 16 * 16)).get(anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void verifyUnfilteredStreamStaysInBounds() {
+        final PalettedContainer<String> lower = VolumeStreamUtilsTest.section(VolumeStreamUtilsTest.STONE);
+        final PalettedContainer<String> upper = VolumeStreamUtilsTest.section(VolumeStreamUtilsTest.AIR);
+
+        final List<Map.Entry<BlockPos, String>> all = VolumeStreamUtilsTest.elements(new Vector3i(1, 14, 2), new Vector3i(2, 17, 3),
+            List.of(lower, upper), null);
+
+        assertEquals(2 * 2 * 4, all.size());
+        assertEquals(new BlockPos(1, 14, 2), all.get(0).getKey());
+        assertEquals(new BlockPos(1, 15, 2), all.get(1).getKey());
+        assertEquals(new BlockPos(2, 17, 3), all.get(all.size() - 1).getKey());
+        assertEquals(VolumeStreamUtilsTest.STONE, all.get(0).getValue());
+        assertEquals(VolumeStreamUtilsTest.AIR, all.get(all.size() - 1).getValue());
+    }
+
+    @Test
+    void verifyUnfilteredStreamIsLazy() {
+        final PalettedContainer<String> section = VolumeStreamUtilsTest.section(VolumeStreamUtilsTest.STONE);
+
+        VolumeStreamUtils.getSectionElements(new ChunkPos(0, 0), 0, 1, i -> section,
+            new ChunkCursor(Vector3i.ZERO), new ChunkCursor(new Vector3i(15, 15, 15)), null).findFirst();
+
+        verify(section, times(1)).get(anyInt(), anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume.buffer.block;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+class BlockBackingDataTest {
+
+    // 2000x256x2000 blocks with more than 16 states, which is well above 2^31 bits
+    private static final int LARGE_SIZE = 2000 * 256 * 2000;
+    private static final int LARGE_HIGHEST = 17;
+
+    @Test
+    void verifyLargeVolumesAreSegmented() {
+        final BlockBackingData data = BlockBackingData.create(BlockBackingDataTest.LARGE_SIZE, BlockBackingDataTest.LARGE_HIGHEST, 3);
+
+        assertInstanceOf(BlockBackingData.SegmentedBackingData.class, data);
+        final int beyondIntBits = (int) ((1L << 31) / 5 + 1);
+        assertEquals(3, data.get(beyondIntBits));
+        assertEquals(3, data.get(BlockBackingDataTest.LARGE_SIZE - 1));
+
+        data.set(beyondIntBits, BlockBackingDataTest.LARGE_HIGHEST);
+        data.set(BlockBackingDataTest.LARGE_SIZE - 1, 9);
+        assertEquals(BlockBackingDataTest.LARGE_HIGHEST, data.get(beyondIntBits));
+        assertEquals(3, data.get(beyondIntBits - 1));
+        assertEquals(3, data.get(beyondIntBits + 1));
+        assertEquals(9, data.get(BlockBackingDataTest.LARGE_SIZE - 1));
+    }
+
+    @Test
+    void verifyWideningIsPerSegment() {
+        final BlockBackingData data = BlockBackingData.create(BlockBackingDataTest.LARGE_SIZE, BlockBackingDataTest.LARGE_HIGHEST, 0);
+        final int segment = BlockBackingData.SegmentedBackingData.SEGMENT_SIZE;
+        for (int i = 0; i < 3 * segment; i++) {
+            data.set(i, i % (BlockBackingDataTest.LARGE_HIGHEST + 1));
+        }
+
+        data.set(segment + 5, 70_000);
+
+        assertEquals(70_000, data.get(segment + 5));
+        for (int i = 0; i < 3 * segment; i++) {
+            if (i != segment + 5) {
+                assertEquals(i % (BlockBackingDataTest.LARGE_HIGHEST + 1), data.get(i));
+            }
+        }
+    }
+
+    @Test
+    void verifyCopyIsIndependent() {
+        final BlockBackingData data = BlockBackingData.create(3 * BlockBackingData.SegmentedBackingData.SEGMENT_SIZE, 4, 1);
+        data.set(10, 2);
+
+        final BlockBackingData copy = data.copyOf();
+        assertEquals(data, copy);
+        assertEquals(data.hashCode(), copy.hashCode());
+
+        copy.set(10, 4);
+        copy.set(BlockBackingData.SegmentedBackingData.SEGMENT_SIZE * 2, 3);
+        assertEquals(2, data.get(10));
+        assertEquals(1, data.get(BlockBackingData.SegmentedBackingData.SEGMENT_SIZE * 2));
+        assertNotEquals(data, copy);
+    }
+
+    @Test
+    void verifySmallVolumesArePacked() {
+        final BlockBackingData data = BlockBackingData.create(4096, 20, 7);
+
+        assertInstanceOf(BlockBackingData.PackedBackingData.class, data);
+        assertEquals(7, data.get(4095));
+        data.set(4095, 20);
+        assertEquals(20, data.get(4095));
+        assertEquals(7, data.get(4094));
+    }
+}
@@ -25,10 +25,13 @@
 package org.spongepowered.vanilla.mixin.core.commands;
 
 import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
 import net.minecraft.server.level.ServerPlayer;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.EventContextKeys;
@@ -36,8 +39,11 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.commands.CommandSourceStackBridge;
+import org.spongepowered.common.command.manager.CommandTreeFingerprint;
 import org.spongepowered.common.command.manager.SpongeCommandManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 
@@ -61,6 +67,39 @@ public abstract class CommandsMixin_Vanilla {
     private CauseStackManager.StackFrame impl$initFrame = null;
     private WeakHashMap<ServerPlayer, Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>>> impl$playerNodeCache;
     private SpongeCommandManager impl$commandManager;
+    private @Nullable CommandTreeFingerprint impl$pendingFingerprint;
+
+    /*
+     * Sends a tree that was already built for a source with the same requirement
+     * outcomes, as building the tree per player is expensive on join waves.
+     */
+    @Inject(method = "sendCommands", at = @At("HEAD"), cancellable = true)
+    private void impl$sendCachedCommandTree(final ServerPlayer player, final CallbackInfo ci) {
+        try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
+            frame.pushCause(player);
+            frame.addContext(EventContextKeys.SUBJECT, (Subject) player);
+            final CommandCause source = ((CommandSourceStackBridge) player.createCommandSourceStack()).bridge$withCurrentCause();
+            final CommandTreeFingerprint fingerprint = this.impl$commandManager.commandTreeFingerprint((CommandSourceStack) source);
+            final @Nullable ClientboundCommandsPacket packet = this.impl$commandManager.cachedCommandTree(fingerprint);
+            if (packet != null) {
+                player.connection.send(packet);
+                ci.cancel();
+            } else {
+                this.impl$pendingFingerprint = fingerprint;
+            }
+        }
+    }
+
+    @Redirect(method = "sendCommands", at = @At(value = "NEW",
+            target = "(Lcom/mojang/brigadier/tree/RootCommandNode;)Lnet/minecraft/network/protocol/game/ClientboundCommandsPacket;"))
+    private ClientboundCommandsPacket impl$cacheCommandTree(final RootCommandNode<SharedSuggestionProvider> root) {
+        final ClientboundCommandsPacket packet = new ClientboundCommandsPacket(root);
+        if (this.impl$pendingFingerprint != null) {
+            this.impl$commandManager.cacheCommandTree(this.impl$pendingFingerprint, packet);
+            this.impl$pendingFingerprint = null;
+        }
+        return packet;
+    }
 
     @Redirect(method = "sendCommands", at = @At(value = "INVOKE", target = "Lnet/minecraft/commands/Commands;fillUsableCommands(Lcom/mojang/brigadier/tree/CommandNode;Lcom/mojang/brigadier/tree/CommandNode;Lnet/minecraft/commands/CommandSourceStack;Ljava/util/Map;)V"))
     private void impl$addNonBrigSuggestions(